@@ -0,0 +1,70 @@
+-- ============================================================================
+-- User search benchmark (not a migration, do not run against shared databases)
+-- ============================================================================
+-- Generates 1M users in a scratch schema and compares the search query used by
+-- the trigram backend with and without the V1.5.0 pg_trgm indexes.
+--
+--   psql -d <scratch-db> -f migrations/benchmark/user_search_benchmark.sql
+--
+-- Compare "Execution Time" of the two EXPLAIN ANALYZE blocks per term.
+-- ============================================================================
+
+\timing on
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm WITH SCHEMA public;
+
+DROP SCHEMA IF EXISTS user_ms_bench CASCADE;
+CREATE SCHEMA user_ms_bench;
+SET search_path TO user_ms_bench, public;
+
+CREATE TABLE app_user (
+    id          BIGSERIAL PRIMARY KEY,
+    uuid        UUID NOT NULL UNIQUE,
+    email       VARCHAR(255) NOT NULL UNIQUE,
+    first_name  VARCHAR(50),
+    last_name   VARCHAR(50),
+    created_at  TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+INSERT INTO app_user (uuid, email, first_name, last_name, created_at)
+SELECT gen_random_uuid(),
+       'user' || g || '.' || substr(md5(g::text), 1, 8) || '@example.com',
+       (ARRAY['Alice','Bob','Charlie','Diana','Edward','Fiona','George','Hannah','Ivan','Julia'])[1 + g % 10] || substr(md5((g * 7)::text), 1, 4),
+       (ARRAY['Johnson','Wilson','Brown','Prince','Smith','Taylor','Nguyen','Garcia','Novak','Kowalski'])[1 + (g / 10) % 10] || substr(md5((g * 13)::text), 1, 4),
+       now() - (g || ' seconds')::interval
+FROM generate_series(1, 1000000) AS g;
+
+CREATE INDEX idx_app_user_created_at_id ON app_user(created_at DESC, id DESC);
+ANALYZE app_user;
+
+-- ---------------------------------------------------------------------------
+-- Baseline: no trigram indexes (sequential scan)
+-- ---------------------------------------------------------------------------
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM app_user
+WHERE lower(email) LIKE '%3f9a%' OR lower(first_name) LIKE '%3f9a%' OR lower(last_name) LIKE '%3f9a%'
+ORDER BY created_at DESC, id DESC LIMIT 20;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT count(*) FROM app_user
+WHERE lower(email) LIKE '%wilson%' OR lower(first_name) LIKE '%wilson%' OR lower(last_name) LIKE '%wilson%';
+
+-- ---------------------------------------------------------------------------
+-- With V1.5.0 indexes
+-- ---------------------------------------------------------------------------
+CREATE INDEX idx_app_user_email_trgm ON app_user USING gin (lower(email) public.gin_trgm_ops);
+CREATE INDEX idx_app_user_first_name_trgm ON app_user USING gin (lower(first_name) public.gin_trgm_ops);
+CREATE INDEX idx_app_user_last_name_trgm ON app_user USING gin (lower(last_name) public.gin_trgm_ops);
+ANALYZE app_user;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM app_user
+WHERE lower(email) LIKE '%3f9a%' OR lower(first_name) LIKE '%3f9a%' OR lower(last_name) LIKE '%3f9a%'
+ORDER BY created_at DESC, id DESC LIMIT 20;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT count(*) FROM app_user
+WHERE lower(email) LIKE '%wilson%' OR lower(first_name) LIKE '%wilson%' OR lower(last_name) LIKE '%wilson%';
+
+RESET search_path;
+DROP SCHEMA user_ms_bench CASCADE;
@@ -0,0 +1,21 @@
+-- ============================================================================
+-- V1.1.0 - Store refresh tokens as SHA-256 digests
+-- ============================================================================
+-- login_token.token held the full refresh JWT in a TEXT UNIQUE column.
+-- Lookups now use the hex SHA-256 of the token, matching action_tokens.token_hash.
+-- ============================================================================
+
+SET search_path TO user_ms;
+
+ALTER TABLE login_token ADD COLUMN IF NOT EXISTS token_hash VARCHAR(64);
+
+UPDATE login_token
+SET token_hash = encode(sha256(convert_to(token, 'UTF8')), 'hex')
+WHERE token_hash IS NULL;
+
+ALTER TABLE login_token ALTER COLUMN token_hash SET NOT NULL;
+ALTER TABLE login_token ADD CONSTRAINT uk_login_token_token_hash UNIQUE (token_hash);
+
+ALTER TABLE login_token DROP COLUMN IF EXISTS token;
+
+RESET search_path;
@@ -0,0 +1,21 @@
+-- ============================================================================
+-- V1.2.0 - Refresh token rotation families
+-- ============================================================================
+-- Each refresh rotates the token: the old row is deleted and a new one is
+-- inserted with the same family_id. Reuse of a rotated token revokes the family.
+-- Existing tokens start their own family.
+-- ============================================================================
+
+SET search_path TO user_ms;
+
+ALTER TABLE login_token ADD COLUMN IF NOT EXISTS family_id UUID;
+
+UPDATE login_token
+SET family_id = uuid
+WHERE family_id IS NULL;
+
+ALTER TABLE login_token ALTER COLUMN family_id SET NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_login_token_family_id ON login_token(family_id);
+
+RESET search_path;
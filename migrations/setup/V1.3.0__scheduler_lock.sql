@@ -0,0 +1,22 @@
+-- ============================================================================
+-- V1.3.0 - Scheduler lock and purge indexes
+-- ============================================================================
+-- scheduler_lock holds a lease per scheduled job so only one replica runs it.
+-- The purge job deletes expired action_tokens by expires_at.
+-- ============================================================================
+
+SET search_path TO user_ms;
+
+CREATE TABLE IF NOT EXISTS scheduler_lock (
+    name            VARCHAR(64) PRIMARY KEY,
+    locked_until    TIMESTAMP WITH TIME ZONE NOT NULL,
+    locked_by       VARCHAR(255) NOT NULL
+);
+
+INSERT INTO scheduler_lock (name, locked_until, locked_by)
+VALUES ('expired-token-purge', CURRENT_TIMESTAMP, 'migration')
+ON CONFLICT (name) DO NOTHING;
+
+CREATE INDEX IF NOT EXISTS idx_action_tokens_expires_at ON action_tokens(expires_at);
+
+RESET search_path;
@@ -0,0 +1,11 @@
+-- ============================================================================
+-- V1.4.0 - Keyset pagination index for user listing
+-- ============================================================================
+-- GET /api/users with a cursor seeks on (created_at, id) descending.
+-- ============================================================================
+
+SET search_path TO user_ms;
+
+CREATE INDEX IF NOT EXISTS idx_app_user_created_at_id ON app_user(created_at DESC, id DESC);
+
+RESET search_path;
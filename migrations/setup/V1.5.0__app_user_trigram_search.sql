@@ -0,0 +1,19 @@
+-- ============================================================================
+-- V1.5.0 - Trigram indexes for user search
+-- ============================================================================
+-- Admin search matches lower(column) LIKE '%term%' on email, first_name and
+-- last_name. B-tree indexes cannot serve a leading wildcard; pg_trgm GIN
+-- indexes can. Requires permission to create the pg_trgm extension.
+-- On large existing tables consider creating the indexes CONCURRENTLY by hand
+-- before running this migration (IF NOT EXISTS makes it a no-op then).
+-- ============================================================================
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm WITH SCHEMA public;
+
+SET search_path TO user_ms, public;
+
+CREATE INDEX IF NOT EXISTS idx_app_user_email_trgm ON app_user USING gin (lower(email) public.gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_app_user_first_name_trgm ON app_user USING gin (lower(first_name) public.gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_app_user_last_name_trgm ON app_user USING gin (lower(last_name) public.gin_trgm_ops);
+
+RESET search_path;
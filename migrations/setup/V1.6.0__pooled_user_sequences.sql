@@ -0,0 +1,15 @@
+-- ============================================================================
+-- V1.6.0 - Pooled id sequences for app_user and app_user_role
+-- ============================================================================
+-- UserEntity and RoleEntity use SEQUENCE ids with allocationSize = 50 so that
+-- Hibernate can batch inserts (bulk import). The increment must match the
+-- allocation size; Hibernate's pooled optimizer treats each nextval as the
+-- upper end of a block of 50 ids.
+-- ============================================================================
+
+SET search_path TO user_ms;
+
+ALTER SEQUENCE app_user_id_seq INCREMENT BY 50;
+ALTER SEQUENCE app_user_role_id_seq INCREMENT BY 50;
+
+RESET search_path;
@@ -0,0 +1,28 @@
+-- ============================================================================
+-- V1.7.0 - Notification outbox
+-- ============================================================================
+-- Notifications are written in the same transaction as the change that
+-- triggers them and delivered to communication-ms by NotificationDispatcher.
+-- Delivered rows are deleted; rows that exhaust their retries stay as FAILED.
+-- Payloads can contain verification and reset links, so keep FAILED rows
+-- short-lived.
+-- ============================================================================
+
+SET search_path TO user_ms;
+
+CREATE TABLE IF NOT EXISTS notification_outbox (
+    id              BIGSERIAL PRIMARY KEY,
+    channel         VARCHAR(16) NOT NULL,
+    payload         TEXT NOT NULL,
+    status          VARCHAR(16) NOT NULL DEFAULT 'PENDING',
+    attempts        INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error      VARCHAR(1000),
+    created_at      TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_notification_outbox_due
+    ON notification_outbox(next_attempt_at, id)
+    WHERE status = 'PENDING';
+
+RESET search_path;
@@ -0,0 +1,47 @@
+-- ============================================================================
+-- V1.8.0 - Verification resend campaigns
+-- ============================================================================
+-- A campaign walks unverified users in id order and queues a fresh
+-- verification message for each. last_user_id is the checkpoint: it is
+-- committed together with the tokens and outbox rows of each chunk, so a
+-- restarted campaign neither skips nor repeats users.
+--
+-- action_tokens and notification_outbox switch to pooled ids (see V1.6.0) so
+-- the tokens and notifications of a chunk are inserted in JDBC batches.
+-- ============================================================================
+
+SET search_path TO user_ms;
+
+CREATE TABLE IF NOT EXISTS verification_campaign (
+    id               BIGSERIAL PRIMARY KEY,
+    uuid             UUID NOT NULL UNIQUE,
+    status           VARCHAR(16) NOT NULL,
+    send_email       BOOLEAN NOT NULL,
+    send_sms         BOOLEAN NOT NULL,
+    rate_per_second  INTEGER NOT NULL,
+    total_candidates BIGINT NOT NULL DEFAULT 0,
+    last_user_id     BIGINT NOT NULL DEFAULT 0,
+    processed        BIGINT NOT NULL DEFAULT 0,
+    emails_queued    BIGINT NOT NULL DEFAULT 0,
+    sms_queued       BIGINT NOT NULL DEFAULT 0,
+    last_error       VARCHAR(1000),
+    version          BIGINT NOT NULL DEFAULT 0,
+    created_at       TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at       TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    completed_at     TIMESTAMP WITH TIME ZONE
+);
+
+-- At most one running campaign
+CREATE UNIQUE INDEX IF NOT EXISTS uq_verification_campaign_running
+    ON verification_campaign(status)
+    WHERE status = 'RUNNING';
+
+-- Keyset scan over unverified users only
+CREATE INDEX IF NOT EXISTS idx_app_user_unverified
+    ON app_user(id)
+    WHERE email_verified = FALSE OR phone_verified = FALSE;
+
+ALTER SEQUENCE action_tokens_id_seq INCREMENT BY 50;
+ALTER SEQUENCE notification_outbox_id_seq INCREMENT BY 50;
+
+RESET search_path;
@@ -0,0 +1,140 @@
+package com.corems.userms.client;
+
+import com.corems.userms.api.model.OidcUserInfo;
+import com.corems.userms.api.model.UserInfo;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// Read-through cache for AdminApi.getUserById and OidcApi.getUserInfo. Fresh entries are served locally;
+// stale ones are revalidated with If-None-Match so an unchanged user costs a 304 without a body.
+// Responses depend on who asks (role checks, admin vs user view), so every entry is keyed by a hash of
+// the caller's credential as well; without a known credential nothing is cached.
+public class CachingUserClient {
+
+    private static final String USER_PATH = "/api/users/{userId}";
+    private static final String USER_INFO_PATH = "/oauth2/userinfo";
+
+    private final RestClient restClient;
+    private final Supplier<String> callerCredential;
+    private final LruTtlCache<UserKey, UserInfo> users;
+    private final LruTtlCache<String, OidcUserInfo> userInfos;
+
+    // callerCredential returns what userRestClient forwards for the current call, e.g. the inbound
+    // Authorization header; return null when it is unknown
+    public CachingUserClient(RestClient restClient, Supplier<String> callerCredential, int maxSize, Duration ttl) {
+        this(restClient, callerCredential, maxSize, ttl, Clock.systemUTC());
+    }
+
+    CachingUserClient(RestClient restClient, Supplier<String> callerCredential, int maxSize, Duration ttl, Clock clock) {
+        this.restClient = restClient;
+        this.callerCredential = callerCredential;
+        this.users = new LruTtlCache<>(maxSize, ttl, clock);
+        this.userInfos = new LruTtlCache<>(maxSize, ttl, clock);
+    }
+
+    public UserInfo getUserById(UUID userId) {
+        Function<String, ResponseEntity<UserInfo>> request = etag -> restClient.get()
+                .uri(USER_PATH, userId)
+                .headers(headers -> ifNoneMatch(headers, etag))
+                .retrieve()
+                .toEntity(UserInfo.class);
+
+        String credential = callerCredential.get();
+        if (credential == null || credential.isBlank()) {
+            return request.apply(null).getBody();
+        }
+        return fetch(users, new UserKey(sha256Hex(credential), userId), request);
+    }
+
+    // Userinfo is per token, so entries are keyed by a hash of the access token rather than the raw value
+    public OidcUserInfo getUserInfo(String accessToken) {
+        return fetch(userInfos, sha256Hex(accessToken), etag -> restClient.get()
+                .uri(USER_INFO_PATH)
+                .headers(headers -> {
+                    headers.setBearerAuth(accessToken);
+                    ifNoneMatch(headers, etag);
+                })
+                .retrieve()
+                .toEntity(OidcUserInfo.class));
+    }
+
+    public void evict(UUID userId) {
+        users.removeIf(key -> key.userId().equals(userId));
+    }
+
+    public void evictAll() {
+        users.clear();
+        userInfos.clear();
+    }
+
+    private <K, V> V fetch(LruTtlCache<K, V> cache, K key, Function<String, ResponseEntity<V>> request) {
+        LruTtlCache.Entry<V> cached = cache.get(key);
+        if (cached != null && cache.isFresh(cached)) {
+            return cached.value();
+        }
+
+        ResponseEntity<V> response;
+        try {
+            response = request.apply(cached != null ? cached.etag() : null);
+        } catch (HttpClientErrorException e) {
+            cache.remove(key);
+            throw e;
+        }
+
+        if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED) && cached != null) {
+            String etag = response.getHeaders().getETag();
+            cache.put(key, cached.value(), etag != null ? etag : cached.etag());
+            return cached.value();
+        }
+
+        V body = response.getBody();
+        String etag = response.getHeaders().getETag();
+        if (body != null && etag != null) {
+            cache.put(key, body, etag);
+        } else {
+            cache.remove(key);
+        }
+        return body;
+    }
+
+    private static void ifNoneMatch(HttpHeaders headers, String etag) {
+        if (etag != null) {
+            headers.setIfNoneMatch(etag);
+        }
+    }
+
+    // Authorization header of the servlet request being handled, which the inbound client forwards
+    public static String inboundAuthorization() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            return attributes.getRequest().getHeader(HttpHeaders.AUTHORIZATION);
+        }
+        return null;
+    }
+
+    private static String sha256Hex(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+
+    private record UserKey(String callerHash, UUID userId) {
+    }
+}
@@ -0,0 +1,163 @@
+package com.corems.userms.client;
+
+import com.corems.userms.api.model.JwksResponse;
+import com.corems.userms.api.model.JwksResponseKeysInner;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.JwtParserBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Verifies user-ms access tokens locally against the published JWKS. Keys are refreshed in the
+// background; a token with an unknown kid triggers at most one refetch per minRefetchInterval.
+// Refresh, action and ID tokens are signed with the same keys, so only tokens marked token_use=access pass.
+public class JwksTokenVerifier implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(JwksTokenVerifier.class);
+
+    static final String CLAIM_TOKEN_USE = "token_use";
+    static final String TOKEN_USE_ACCESS = "access";
+
+    private final OidcApi oidcApi;
+    private final Duration minRefetchInterval;
+    private final JwtParser parser;
+    private final ScheduledExecutorService refresher;
+
+    private final Object refreshLock = new Object();
+    private volatile Map<String, PublicKey> keys = Map.of();
+    private long lastFetchNanos;
+    private boolean fetchAttempted;
+
+    public JwksTokenVerifier(OidcApi oidcApi, String issuer, Duration refreshInterval,
+                             Duration minRefetchInterval, Duration clockSkew) {
+        this.oidcApi = oidcApi;
+        this.minRefetchInterval = minRefetchInterval;
+
+        JwtParserBuilder builder = Jwts.parser()
+                .keyLocator(new KidLocator())
+                .clockSkewSeconds(clockSkew.toSeconds())
+                .require(CLAIM_TOKEN_USE, TOKEN_USE_ACCESS);
+        if (issuer != null && !issuer.isBlank()) {
+            builder.requireIssuer(issuer);
+        }
+        this.parser = builder.build();
+
+        this.refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "userms-jwks-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Load the keys up front so the first verify does not race the background thread
+        refreshQuietly();
+        long intervalMillis = refreshInterval.toMillis();
+        refresher.scheduleWithFixedDelay(this::refreshQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public Optional<Claims> verify(String token) {
+        try {
+            return Optional.of(parser.parseSignedClaims(token).getPayload());
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("Token verification failed: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void close() {
+        refresher.shutdownNow();
+    }
+
+    private PublicKey resolveKey(String kid) {
+        PublicKey key = lookup(kid);
+        if (key == null) {
+            refetch();
+            key = lookup(kid);
+        }
+        if (key == null) {
+            throw new JwtException("Unknown signing key: " + kid);
+        }
+        return key;
+    }
+
+    // A token without kid is only accepted while the issuer publishes a single key
+    private PublicKey lookup(String kid) {
+        Map<String, PublicKey> current = keys;
+        if (kid == null) {
+            return current.size() == 1 ? current.values().iterator().next() : null;
+        }
+        return current.get(kid);
+    }
+
+    private void refetch() {
+        synchronized (refreshLock) {
+            if (fetchAttempted && System.nanoTime() - lastFetchNanos < minRefetchInterval.toNanos()) {
+                return;
+            }
+            refreshQuietly();
+        }
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("Failed to refresh JWKS: {}", e.getMessage());
+        }
+    }
+
+    private void refresh() {
+        synchronized (refreshLock) {
+            lastFetchNanos = System.nanoTime();
+            fetchAttempted = true;
+            JwksResponse jwks = oidcApi.getJwks();
+
+            Map<String, PublicKey> fetched = new HashMap<>();
+            if (jwks != null && jwks.getKeys() != null) {
+                for (JwksResponseKeysInner jwk : jwks.getKeys()) {
+                    if ("RSA".equals(jwk.getKty()) && jwk.getKid() != null) {
+                        fetched.put(jwk.getKid(), toPublicKey(jwk));
+                    }
+                }
+            }
+
+            keys = Map.copyOf(fetched);
+        }
+    }
+
+    private static PublicKey toPublicKey(JwksResponseKeysInner jwk) {
+        Base64.Decoder decoder = Base64.getUrlDecoder();
+        BigInteger modulus = new BigInteger(1, decoder.decode(jwk.getN()));
+        BigInteger exponent = new BigInteger(1, decoder.decode(jwk.getE()));
+        try {
+            return KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(modulus, exponent));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Invalid RSA key in JWKS: " + jwk.getKid(), e);
+        }
+    }
+
+    private class KidLocator extends LocatorAdapter<Key> {
+        @Override
+        protected Key locate(JwsHeader header) {
+            return resolveKey(header.getKeyId());
+        }
+    }
+}
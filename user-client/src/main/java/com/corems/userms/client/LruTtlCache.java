@@ -0,0 +1,54 @@
+package com.corems.userms.client;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+// Small access-ordered LRU map. Expired entries are kept so their ETag can still be used for revalidation.
+class LruTtlCache<K, V> {
+
+    private final Duration ttl;
+    private final Clock clock;
+    private final Map<K, Entry<V>> entries;
+
+    LruTtlCache(int maxSize, Duration ttl, Clock clock) {
+        this.ttl = ttl;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    synchronized Entry<V> get(K key) {
+        return entries.get(key);
+    }
+
+    synchronized void put(K key, V value, String etag) {
+        entries.put(key, new Entry<>(value, etag, clock.instant().plus(ttl)));
+    }
+
+    synchronized void remove(K key) {
+        entries.remove(key);
+    }
+
+    synchronized void removeIf(Predicate<K> keyFilter) {
+        entries.keySet().removeIf(keyFilter);
+    }
+
+    synchronized void clear() {
+        entries.clear();
+    }
+
+    boolean isFresh(Entry<V> entry) {
+        return entry.expiresAt().isAfter(clock.instant());
+    }
+
+    record Entry<V>(V value, String etag, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,127 @@
+package com.corems.userms.client;
+
+import com.corems.userms.api.model.BatchGetUsersRequest;
+import com.corems.userms.api.model.UserInfo;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+// Coalesces concurrent single-user lookups into POST /api/users:batchGet calls. The first caller of a
+// batch waits for the window and then sends everything queued meanwhile; a full batch is sent at once.
+// The batch goes out on one caller's thread with that caller's forwarded credential, so only callers with
+// the same credential share a batch.
+public class UserLookupBatcher {
+
+    private static final String NO_CREDENTIAL = "";
+
+    private final AdminApi adminApi;
+    private final Supplier<String> callerCredential;
+    private final Duration window;
+    private final int maxBatchSize;
+
+    private final Object lock = new Object();
+    private final Map<String, Batch> openBatches = new HashMap<>();
+
+    // callerCredential returns what userRestClient forwards for the current call, e.g. the inbound
+    // Authorization header; null when there is none
+    public UserLookupBatcher(AdminApi adminApi, Supplier<String> callerCredential, Duration window, int maxBatchSize) {
+        this.adminApi = adminApi;
+        this.callerCredential = callerCredential;
+        this.window = window;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public Optional<UserInfo> getUser(UUID userId) {
+        String credential = Objects.requireNonNullElse(callerCredential.get(), NO_CREDENTIAL);
+        CompletableFuture<Optional<UserInfo>> future;
+        Batch batch;
+        boolean leader = false;
+        boolean full = false;
+
+        synchronized (lock) {
+            batch = openBatches.computeIfAbsent(credential, key -> new Batch());
+            future = batch.futures.get(userId);
+            if (future == null) {
+                leader = batch.futures.isEmpty();
+                future = new CompletableFuture<>();
+                batch.futures.put(userId, future);
+                if (batch.futures.size() >= maxBatchSize) {
+                    openBatches.remove(credential);
+                    full = true;
+                }
+            }
+        }
+
+        if (full) {
+            dispatch(batch);
+        } else if (leader) {
+            sleepForWindow();
+            boolean stillOpen;
+            synchronized (lock) {
+                stillOpen = openBatches.remove(credential, batch);
+            }
+            if (stillOpen) {
+                dispatch(batch);
+            }
+        }
+
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public Map<UUID, UserInfo> getUsers(Collection<UUID> userIds) {
+        Map<UUID, UserInfo> users = new HashMap<>();
+        List<UUID> ids = List.copyOf(userIds);
+        for (int from = 0; from < ids.size(); from += maxBatchSize) {
+            List<UUID> chunk = ids.subList(from, Math.min(from + maxBatchSize, ids.size()));
+            users.putAll(fetch(chunk));
+        }
+        return users;
+    }
+
+    private void dispatch(Batch batch) {
+        try {
+            Map<UUID, UserInfo> users = fetch(new ArrayList<>(batch.futures.keySet()));
+            batch.futures.forEach((id, future) -> future.complete(Optional.ofNullable(users.get(id))));
+        } catch (RuntimeException e) {
+            batch.futures.values().forEach(future -> future.completeExceptionally(e));
+        }
+    }
+
+    private Map<UUID, UserInfo> fetch(List<UUID> userIds) {
+        return adminApi.batchGetUsers(new BatchGetUsersRequest().userIds(userIds))
+                .getItems()
+                .stream()
+                .collect(Collectors.toMap(UserInfo::getUserId, Function.identity(), (a, b) -> a));
+    }
+
+    private void sleepForWindow() {
+        try {
+            Thread.sleep(window);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class Batch {
+        private final Map<UUID, CompletableFuture<Optional<UserInfo>>> futures = new HashMap<>();
+    }
+}
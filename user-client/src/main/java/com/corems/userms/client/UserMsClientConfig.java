@@ -4,9 +4,12 @@ import com.corems.userms.ApiClient;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.web.client.RestClient;
 
+import java.time.Duration;
+
 @AutoConfiguration
 public class UserMsClientConfig {
 
@@ -34,6 +37,24 @@ public class UserMsClientConfig {
        return new AdminApi(userApiClient);
     }
 
+    @Bean
+    @ConditionalOnMissingBean
+    public UserLookupBatcher userLookupBatcher(AdminApi adminApi,
+                                               @Value("${userms.batch-lookup.window-ms:5}") long windowMs,
+                                               @Value("${userms.batch-lookup.max-batch-size:200}") int maxBatchSize) {
+        return new UserLookupBatcher(adminApi, CachingUserClient::inboundAuthorization,
+                Duration.ofMillis(windowMs), maxBatchSize);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(name = "userms.cache.enabled", havingValue = "true")
+    public CachingUserClient cachingUserClient(RestClient userRestClient,
+                                               @Value("${userms.cache.max-size:10000}") int maxSize,
+                                               @Value("${userms.cache.ttl:PT30S}") Duration ttl) {
+        return new CachingUserClient(userRestClient, CachingUserClient::inboundAuthorization, maxSize, ttl);
+    }
+
     @Bean
     @ConditionalOnMissingBean(name = "profileApi")
     public ProfileApi profileApi(ApiClient userApiClient) throws Exception {
@@ -58,6 +79,17 @@ public class UserMsClientConfig {
         return new OidcApi(userApiClient);
     }
 
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(name = "userms.jwks.enabled", havingValue = "true")
+    public JwksTokenVerifier jwksTokenVerifier(OidcApi oidcApi,
+                                               @Value("${userms.jwks.issuer:}") String issuer,
+                                               @Value("${userms.jwks.refresh-interval:PT10M}") Duration refreshInterval,
+                                               @Value("${userms.jwks.min-refetch-interval:PT30S}") Duration minRefetchInterval,
+                                               @Value("${userms.jwks.clock-skew:PT30S}") Duration clockSkew) {
+        return new JwksTokenVerifier(oidcApi, issuer, refreshInterval, minRefetchInterval, clockSkew);
+    }
+
     @Bean
     @ConditionalOnMissingBean(name = "passwordApi")
     public PasswordApi passwordApi(ApiClient userApiClient) throws Exception {
@@ -0,0 +1,136 @@
+package com.corems.userms.client;
+
+import com.corems.userms.api.model.UserInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.test.web.client.ResponseCreator;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.*;
+
+class CachingUserClientTest {
+
+    private static final UUID USER_ID = UUID.fromString("6f1c2a8e-5b9d-4c3e-8f7a-1b2c3d4e5f60");
+    private static final String USER_URL = "http://user-ms/api/users/" + USER_ID;
+    private static final String ADMIN = "Bearer admin-token";
+    private static final String OTHER = "Bearer other-token";
+
+    private final MutableClock clock = new MutableClock();
+    private final AtomicReference<String> caller = new AtomicReference<>(ADMIN);
+
+    private MockRestServiceServer server;
+    private CachingUserClient client;
+
+    @BeforeEach
+    void setUp() {
+        RestClient.Builder builder = RestClient.builder().baseUrl("http://user-ms");
+        server = MockRestServiceServer.bindTo(builder).build();
+        client = new CachingUserClient(builder.build(), caller::get, 100, Duration.ofSeconds(30), clock);
+    }
+
+    @Test
+    void getUserById_WhenFreshForSameCaller_ShouldServeFromCache() {
+        // Given
+        server.expect(ExpectedCount.once(), requestTo(USER_URL))
+                .andRespond(userResponse("\"v1\""));
+
+        // When
+        UserInfo first = client.getUserById(USER_ID);
+        UserInfo second = client.getUserById(USER_ID);
+
+        // Then
+        assertThat(first.getEmail()).isEqualTo("jane@example.com");
+        assertThat(second).isSameAs(first);
+        server.verify();
+    }
+
+    @Test
+    void getUserById_WhenDifferentCaller_ShouldNotReuseAnotherCallersEntry() {
+        // Given
+        server.expect(requestTo(USER_URL))
+                .andExpect(headerDoesNotExist(HttpHeaders.IF_NONE_MATCH))
+                .andRespond(userResponse("\"v1\""));
+        server.expect(requestTo(USER_URL))
+                .andRespond(withStatus(HttpStatus.FORBIDDEN));
+
+        // When
+        client.getUserById(USER_ID);
+        caller.set(OTHER);
+
+        // Then
+        assertThatThrownBy(() -> client.getUserById(USER_ID))
+                .hasMessageContaining("403");
+        server.verify();
+    }
+
+    @Test
+    void getUserById_WhenCallerUnknown_ShouldNotCache() {
+        // Given
+        caller.set(null);
+        server.expect(ExpectedCount.twice(), requestTo(USER_URL))
+                .andRespond(userResponse("\"v1\""));
+
+        // When
+        client.getUserById(USER_ID);
+        client.getUserById(USER_ID);
+
+        // Then
+        server.verify();
+    }
+
+    @Test
+    void getUserById_WhenStale_ShouldRevalidateWithEtag() {
+        // Given
+        server.expect(requestTo(USER_URL))
+                .andRespond(userResponse("\"v1\""));
+        server.expect(requestTo(USER_URL))
+                .andExpect(method(HttpMethod.GET))
+                .andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+                .andRespond(withStatus(HttpStatus.NOT_MODIFIED).header(HttpHeaders.ETAG, "\"v1\""));
+
+        // When
+        UserInfo first = client.getUserById(USER_ID);
+        clock.advance(Duration.ofSeconds(31));
+        UserInfo revalidated = client.getUserById(USER_ID);
+
+        // Then
+        assertThat(revalidated).isSameAs(first);
+        server.verify();
+    }
+
+    @Test
+    void evict_ShouldDropEntriesOfEveryCaller() {
+        // Given
+        server.expect(ExpectedCount.times(4), requestTo(USER_URL))
+                .andRespond(userResponse("\"v1\""));
+        client.getUserById(USER_ID);
+        caller.set(OTHER);
+        client.getUserById(USER_ID);
+
+        // When
+        client.evict(USER_ID);
+        client.getUserById(USER_ID);
+        caller.set(ADMIN);
+        client.getUserById(USER_ID);
+
+        // Then
+        server.verify();
+    }
+
+    private static ResponseCreator userResponse(String etag) {
+        return withSuccess("{\"userId\":\"" + USER_ID + "\",\"email\":\"jane@example.com\"}", MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.ETAG, etag);
+    }
+}
@@ -0,0 +1,213 @@
+package com.corems.userms.client;
+
+import com.corems.userms.api.model.JwksResponse;
+import com.corems.userms.api.model.JwksResponseKeysInner;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwksTokenVerifierTest {
+
+    private static final String ISSUER = "http://user-ms";
+
+    private static KeyPair currentKey;
+    private static KeyPair rotatedKey;
+
+    @Mock
+    private OidcApi oidcApi;
+
+    private JwksTokenVerifier verifier;
+
+    @BeforeAll
+    static void generateKeys() {
+        currentKey = Jwts.SIG.RS256.keyPair().build();
+        rotatedKey = Jwts.SIG.RS256.keyPair().build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (verifier != null) {
+            verifier.close();
+        }
+    }
+
+    @Test
+    void verify_WhenKidIsPublished_ShouldReturnClaims() {
+        // Given
+        when(oidcApi.getJwks()).thenReturn(jwks(jwk("k1", currentKey), jwk("k2", rotatedKey)));
+        verifier = newVerifier(Duration.ofMinutes(1));
+
+        // When
+        Optional<Claims> claims = verifier.verify(accessToken("k2", rotatedKey).compact());
+
+        // Then
+        assertThat(claims).isPresent();
+        assertThat(claims.get().getSubject()).isEqualTo("user-1");
+        verify(oidcApi, times(1)).getJwks();
+    }
+
+    @Test
+    void verify_WhenSignedByDifferentKeyThanKid_ShouldReject() {
+        // Given
+        when(oidcApi.getJwks()).thenReturn(jwks(jwk("k1", currentKey)));
+        verifier = newVerifier(Duration.ofMinutes(1));
+
+        // When
+        Optional<Claims> claims = verifier.verify(accessToken("k1", rotatedKey).compact());
+
+        // Then
+        assertThat(claims).isEmpty();
+    }
+
+    @Test
+    void verify_WhenKidUnknown_ShouldRefetchAtMostOncePerInterval() {
+        // Given
+        when(oidcApi.getJwks()).thenReturn(jwks(jwk("k1", currentKey)));
+        verifier = newVerifier(Duration.ofMinutes(1));
+        String unknown = accessToken("k9", rotatedKey).compact();
+
+        // When
+        Optional<Claims> first = verifier.verify(unknown);
+        Optional<Claims> second = verifier.verify(unknown);
+        Optional<Claims> third = verifier.verify(unknown);
+
+        // Then
+        assertThat(first).isEmpty();
+        assertThat(second).isEmpty();
+        assertThat(third).isEmpty();
+        // One fetch on construction, one refetch for the unknown kid
+        verify(oidcApi, times(2)).getJwks();
+    }
+
+    @Test
+    void verify_WhenKeyRotated_ShouldPickUpNewKidOnRefetch() {
+        // Given
+        when(oidcApi.getJwks())
+                .thenReturn(jwks(jwk("k1", currentKey)))
+                .thenReturn(jwks(jwk("k1", currentKey), jwk("k2", rotatedKey)));
+        verifier = newVerifier(Duration.ZERO);
+
+        // When
+        Optional<Claims> claims = verifier.verify(accessToken("k2", rotatedKey).compact());
+
+        // Then
+        assertThat(claims).isPresent();
+        verify(oidcApi, times(2)).getJwks();
+    }
+
+    @Test
+    void verify_WhenExpiredBeyondClockSkew_ShouldReject() {
+        // Given
+        when(oidcApi.getJwks()).thenReturn(jwks(jwk("k1", currentKey)));
+        verifier = newVerifier(Duration.ofMinutes(1));
+        String expired = accessToken("k1", currentKey)
+                .expiration(Date.from(Instant.now().minusSeconds(120)))
+                .compact();
+        String withinSkew = accessToken("k1", currentKey)
+                .expiration(Date.from(Instant.now().minusSeconds(10)))
+                .compact();
+
+        // When
+        Optional<Claims> expiredClaims = verifier.verify(expired);
+        Optional<Claims> withinSkewClaims = verifier.verify(withinSkew);
+
+        // Then
+        assertThat(expiredClaims).isEmpty();
+        assertThat(withinSkewClaims).isPresent();
+    }
+
+    @Test
+    void verify_WhenRefreshToken_ShouldReject() {
+        // Given
+        when(oidcApi.getJwks()).thenReturn(jwks(jwk("k1", currentKey)));
+        verifier = newVerifier(Duration.ofMinutes(1));
+        String refreshToken = Jwts.builder()
+                .header().keyId("k1").and()
+                .issuer(ISSUER)
+                .subject("user-1")
+                .claim("fid", "family-1")
+                .claim("email", "user@example.com")
+                .claim("roles", List.of("USER_MS_ADMIN"))
+                .expiration(Date.from(Instant.now().plusSeconds(600)))
+                .signWith(currentKey.getPrivate())
+                .compact();
+
+        // When
+        Optional<Claims> claims = verifier.verify(refreshToken);
+
+        // Then
+        assertThat(claims).isEmpty();
+    }
+
+    @Test
+    void verify_WhenIssuerDiffers_ShouldReject() {
+        // Given
+        when(oidcApi.getJwks()).thenReturn(jwks(jwk("k1", currentKey)));
+        verifier = newVerifier(Duration.ofMinutes(1));
+
+        // When
+        Optional<Claims> claims = verifier.verify(accessToken("k1", currentKey).issuer("http://other").compact());
+
+        // Then
+        assertThat(claims).isEmpty();
+    }
+
+    private JwksTokenVerifier newVerifier(Duration minRefetchInterval) {
+        return new JwksTokenVerifier(oidcApi, ISSUER, Duration.ofHours(1), minRefetchInterval, Duration.ofSeconds(30));
+    }
+
+    private static JwtBuilder accessToken(String kid, KeyPair keyPair) {
+        return Jwts.builder()
+                .header().keyId(kid).and()
+                .issuer(ISSUER)
+                .subject("user-1")
+                .claim(JwksTokenVerifier.CLAIM_TOKEN_USE, JwksTokenVerifier.TOKEN_USE_ACCESS)
+                .claim("email", "user@example.com")
+                .expiration(Date.from(Instant.now().plusSeconds(600)))
+                .signWith(keyPair.getPrivate());
+    }
+
+    private static JwksResponse jwks(JwksResponseKeysInner... keys) {
+        return new JwksResponse().keys(List.of(keys));
+    }
+
+    private static JwksResponseKeysInner jwk(String kid, KeyPair keyPair) {
+        RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+        return new JwksResponseKeysInner()
+                .kty("RSA")
+                .use("sig")
+                .alg("RS256")
+                .kid(kid)
+                .n(base64Url(publicKey.getModulus()))
+                .e(base64Url(publicKey.getPublicExponent()));
+    }
+
+    private static String base64Url(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
@@ -0,0 +1,63 @@
+package com.corems.userms.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LruTtlCacheTest {
+
+    private final MutableClock clock = new MutableClock();
+
+    @Test
+    void put_WhenFull_ShouldEvictLeastRecentlyUsed() {
+        // Given
+        LruTtlCache<String, String> cache = new LruTtlCache<>(2, Duration.ofMinutes(1), clock);
+        cache.put("a", "A", "\"1\"");
+        cache.put("b", "B", "\"2\"");
+        cache.get("a");
+
+        // When
+        cache.put("c", "C", "\"3\"");
+
+        // Then
+        assertThat(cache.get("a")).isNotNull();
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("c")).isNotNull();
+    }
+
+    @Test
+    void get_WhenTtlElapsed_ShouldKeepStaleEntryWithEtag() {
+        // Given
+        LruTtlCache<String, String> cache = new LruTtlCache<>(10, Duration.ofSeconds(30), clock);
+        cache.put("a", "A", "\"1\"");
+        assertThat(cache.isFresh(cache.get("a"))).isTrue();
+
+        // When
+        clock.advance(Duration.ofSeconds(31));
+
+        // Then
+        LruTtlCache.Entry<String> entry = cache.get("a");
+        assertThat(cache.isFresh(entry)).isFalse();
+        assertThat(entry.value()).isEqualTo("A");
+        assertThat(entry.etag()).isEqualTo("\"1\"");
+    }
+
+    @Test
+    void removeIf_ShouldDropMatchingKeysOnly() {
+        // Given
+        LruTtlCache<String, String> cache = new LruTtlCache<>(10, Duration.ofMinutes(1), clock);
+        cache.put("user-1:caller-a", "A", "\"1\"");
+        cache.put("user-1:caller-b", "B", "\"1\"");
+        cache.put("user-2:caller-a", "C", "\"2\"");
+
+        // When
+        cache.removeIf(key -> key.startsWith("user-1:"));
+
+        // Then
+        assertThat(cache.get("user-1:caller-a")).isNull();
+        assertThat(cache.get("user-1:caller-b")).isNull();
+        assertThat(cache.get("user-2:caller-a")).isNotNull();
+    }
+}
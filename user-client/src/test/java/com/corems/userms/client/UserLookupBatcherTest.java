@@ -0,0 +1,226 @@
+package com.corems.userms.client;
+
+import com.corems.userms.api.model.BatchGetUsersRequest;
+import com.corems.userms.api.model.BatchGetUsersResponse;
+import com.corems.userms.api.model.UserInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserLookupBatcherTest {
+
+    @Mock
+    private AdminApi adminApi;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void getUser_WhenCalledConcurrentlyWithinWindow_ShouldSendOneBatch() throws Exception {
+        // Given
+        Set<UUID> known = Set.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        knownUsers(known);
+        UserLookupBatcher batcher = new UserLookupBatcher(adminApi, () -> null, Duration.ofMillis(300), 200);
+        List<UUID> lookups = List.copyOf(known);
+
+        // When
+        List<Future<Optional<UserInfo>>> results = lookups.stream()
+                .map(id -> executor.submit(() -> batcher.getUser(id)))
+                .toList();
+
+        // Then
+        for (int i = 0; i < lookups.size(); i++) {
+            assertThat(results.get(i).get(5, TimeUnit.SECONDS))
+                    .map(UserInfo::getUserId)
+                    .contains(lookups.get(i));
+        }
+        ArgumentCaptor<BatchGetUsersRequest> request = ArgumentCaptor.forClass(BatchGetUsersRequest.class);
+        verify(adminApi, times(1)).batchGetUsers(request.capture());
+        assertThat(request.getValue().getUserIds()).containsExactlyInAnyOrderElementsOf(known);
+    }
+
+    @Test
+    void getUser_WhenCallersHaveDifferentCredentials_ShouldNeverShareABatch() throws Exception {
+        // Given
+        ThreadLocal<String> credential = new ThreadLocal<>();
+        UUID adminLookup = UUID.randomUUID();
+        UUID userLookup = UUID.randomUUID();
+        UUID anonymousLookup = UUID.randomUUID();
+        Map<String, List<UUID>> sentWith = new ConcurrentHashMap<>();
+        when(adminApi.batchGetUsers(any())).thenAnswer(invocation -> {
+            BatchGetUsersRequest request = invocation.getArgument(0);
+            // userRestClient forwards the credential of the thread that sends the batch
+            sentWith.put(Objects.requireNonNullElse(credential.get(), "none"), request.getUserIds());
+            return new BatchGetUsersResponse().items(request.getUserIds().stream()
+                    .map(id -> new UserInfo().userId(id))
+                    .toList());
+        });
+        UserLookupBatcher batcher = new UserLookupBatcher(adminApi, credential::get, Duration.ofMillis(300), 200);
+
+        // When
+        List<Future<Optional<UserInfo>>> results = List.of(
+                executor.submit(() -> lookupAs(credential, "Bearer admin", batcher, adminLookup)),
+                executor.submit(() -> lookupAs(credential, "Bearer user", batcher, userLookup)),
+                executor.submit(() -> lookupAs(credential, null, batcher, anonymousLookup)));
+
+        // Then
+        for (Future<Optional<UserInfo>> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isPresent();
+        }
+        verify(adminApi, times(3)).batchGetUsers(any());
+        assertThat(sentWith).containsOnly(
+                entry("Bearer admin", List.of(adminLookup)),
+                entry("Bearer user", List.of(userLookup)),
+                entry("none", List.of(anonymousLookup)));
+    }
+
+    @Test
+    void getUser_WhenSameIdRequestedTwice_ShouldSendItOnce() throws Exception {
+        // Given
+        UUID userId = UUID.randomUUID();
+        knownUsers(Set.of(userId));
+        UserLookupBatcher batcher = new UserLookupBatcher(adminApi, () -> null, Duration.ofMillis(300), 200);
+
+        // When
+        Future<Optional<UserInfo>> first = executor.submit(() -> batcher.getUser(userId));
+        Future<Optional<UserInfo>> second = executor.submit(() -> batcher.getUser(userId));
+
+        // Then
+        assertThat(first.get(5, TimeUnit.SECONDS)).isPresent();
+        assertThat(second.get(5, TimeUnit.SECONDS)).isPresent();
+        ArgumentCaptor<BatchGetUsersRequest> request = ArgumentCaptor.forClass(BatchGetUsersRequest.class);
+        verify(adminApi, times(1)).batchGetUsers(request.capture());
+        assertThat(request.getValue().getUserIds()).containsExactly(userId);
+    }
+
+    @Test
+    void getUser_WhenBatchFills_ShouldSendWithoutWaitingForWindow() throws Exception {
+        // Given
+        UUID leaderId = UUID.randomUUID();
+        UUID fillingId = UUID.randomUUID();
+        knownUsers(Set.of(leaderId, fillingId));
+        Duration window = Duration.ofSeconds(2);
+        UserLookupBatcher batcher = new UserLookupBatcher(adminApi, () -> null, window, 2);
+        Future<Optional<UserInfo>> leader = executor.submit(() -> batcher.getUser(leaderId));
+        Thread.sleep(100);
+
+        // When
+        long startNanos = System.nanoTime();
+        Optional<UserInfo> filled = batcher.getUser(fillingId);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+
+        // Then
+        assertThat(filled).isPresent();
+        assertThat(elapsed).isLessThan(window);
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isPresent();
+        verify(adminApi, times(1)).batchGetUsers(any());
+    }
+
+    @Test
+    void getUsers_WhenMoreIdsThanMaxBatchSize_ShouldSplitRequests() {
+        // Given
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                UUID.randomUUID(), UUID.randomUUID());
+        knownUsers(Set.copyOf(ids));
+        UserLookupBatcher batcher = new UserLookupBatcher(adminApi, () -> null, Duration.ofMillis(5), 2);
+
+        // When
+        Map<UUID, UserInfo> users = batcher.getUsers(ids);
+
+        // Then
+        assertThat(users).containsOnlyKeys(ids);
+        ArgumentCaptor<BatchGetUsersRequest> requests = ArgumentCaptor.forClass(BatchGetUsersRequest.class);
+        verify(adminApi, times(3)).batchGetUsers(requests.capture());
+        assertThat(requests.getAllValues())
+                .extracting(request -> request.getUserIds().size())
+                .containsExactly(2, 2, 1);
+    }
+
+    @Test
+    void getUser_WhenIdUnknown_ShouldReturnEmpty() {
+        // Given
+        knownUsers(Set.of());
+        UserLookupBatcher batcher = new UserLookupBatcher(adminApi, () -> null, Duration.ofMillis(5), 200);
+
+        // When
+        Optional<UserInfo> user = batcher.getUser(UUID.randomUUID());
+
+        // Then
+        assertThat(user).isEmpty();
+    }
+
+    @Test
+    void getUsers_WhenSomeIdsUnknown_ShouldOmitThem() {
+        // Given
+        UUID existing = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        knownUsers(Set.of(existing));
+        UserLookupBatcher batcher = new UserLookupBatcher(adminApi, () -> null, Duration.ofMillis(5), 200);
+
+        // When
+        Map<UUID, UserInfo> users = batcher.getUsers(List.of(existing, missing));
+
+        // Then
+        assertThat(users).containsOnlyKeys(existing);
+    }
+
+    @Test
+    void getUser_WhenBatchCallFails_ShouldRethrowToCaller() {
+        // Given
+        when(adminApi.batchGetUsers(any())).thenThrow(new IllegalStateException("user-ms unavailable"));
+        UserLookupBatcher batcher = new UserLookupBatcher(adminApi, () -> null, Duration.ofMillis(5), 200);
+
+        // When / Then
+        assertThatThrownBy(() -> batcher.getUser(UUID.randomUUID()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("user-ms unavailable");
+    }
+
+    private static Optional<UserInfo> lookupAs(ThreadLocal<String> credential, String value,
+                                               UserLookupBatcher batcher, UUID userId) {
+        credential.set(value);
+        return batcher.getUser(userId);
+    }
+
+    // user-ms returns only the requested ids it knows about
+    private void knownUsers(Set<UUID> known) {
+        when(adminApi.batchGetUsers(any())).thenAnswer(invocation -> {
+            BatchGetUsersRequest request = invocation.getArgument(0);
+            List<UserInfo> items = request.getUserIds().stream()
+                    .filter(known::contains)
+                    .map(id -> new UserInfo().userId(id))
+                    .toList();
+            return new BatchGetUsersResponse().items(items);
+        });
+    }
+}
@@ -0,0 +1,43 @@
+package com.corems.userms.app.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "app.password-hashing")
+public class PasswordHashingProperties {
+
+    // Algorithm used for new hashes: bcrypt, argon2 or pbkdf2. Existing hashes are re-hashed on next login
+    private String algorithm = "bcrypt";
+
+    private Bcrypt bcrypt = new Bcrypt();
+    private Argon2 argon2 = new Argon2();
+    private Pbkdf2 pbkdf2 = new Pbkdf2();
+
+    @Setter
+    @Getter
+    public static class Bcrypt {
+        private int strength = 10;
+    }
+
+    @Setter
+    @Getter
+    public static class Argon2 {
+        private int saltLength = 16;
+        private int hashLength = 32;
+        private int parallelism = 1;
+        private int memoryKb = 19456;
+        private int iterations = 2;
+    }
+
+    @Setter
+    @Getter
+    public static class Pbkdf2 {
+        private int saltLength = 16;
+        private int iterations = 600000;
+    }
+}
@@ -3,6 +3,8 @@ package com.corems.userms.app.config;
 import com.corems.common.security.RequireRolesAspect;
 import com.corems.common.security.config.WebMvcConfig;
 import com.corems.common.security.filter.MdcUserFilter;
+import com.corems.userms.app.security.BoundedPasswordEncoder;
+import com.corems.userms.app.security.PasswordHashingExecutor;
 import com.corems.userms.app.security.TokenAuthenticationFilter;
 import com.corems.userms.app.security.oauth2.CustomAccessTokenResponseConverter;
 import com.corems.userms.app.security.oauth2.CustomAuthorizationRequestResolver;
@@ -23,8 +25,11 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
 import org.springframework.security.oauth2.client.endpoint.OAuth2AccessTokenResponseClient;
 import org.springframework.security.oauth2.client.endpoint.OAuth2AuthorizationCodeGrantRequest;
 import org.springframework.security.oauth2.client.endpoint.RestClientAuthorizationCodeTokenResponseClient;
@@ -37,6 +42,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 import org.springframework.web.client.RestTemplate;
 
 import java.util.Arrays;
+import java.util.Map;
 
 @Configuration
 @EnableWebSecurity
@@ -128,8 +134,25 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties properties,
+                                           PasswordHashingExecutor passwordHashingExecutor) {
+        PasswordHashingProperties.Argon2 argon2 = properties.getArgon2();
+        PasswordHashingProperties.Pbkdf2 pbkdf2 = properties.getPbkdf2();
+
+        BCryptPasswordEncoder bcryptEncoder = new BCryptPasswordEncoder(properties.getBcrypt().getStrength());
+        Map<String, PasswordEncoder> encoders = Map.of(
+                "bcrypt", bcryptEncoder,
+                "argon2", new Argon2PasswordEncoder(argon2.getSaltLength(), argon2.getHashLength(),
+                        argon2.getParallelism(), argon2.getMemoryKb(), argon2.getIterations()),
+                "pbkdf2", new Pbkdf2PasswordEncoder("", pbkdf2.getSaltLength(), pbkdf2.getIterations(),
+                        Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256)
+        );
+
+        DelegatingPasswordEncoder delegatingEncoder = new DelegatingPasswordEncoder(properties.getAlgorithm(), encoders);
+        // Hashes stored before the delegating encoder have no {id} prefix and are plain bcrypt
+        delegatingEncoder.setDefaultPasswordEncoderForMatches(bcryptEncoder);
+
+        return new BoundedPasswordEncoder(delegatingEncoder, passwordHashingExecutor);
     }
 
     @Bean
@@ -0,0 +1,31 @@
+package com.corems.userms.app.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "app.security.keyring")
+public class SigningKeyRingProperties {
+
+    // Keys accepted and published next to the current signing key: the previous key until its tokens
+    // have expired, or the next key ahead of a cutover so relying parties already have it
+    private List<VerificationKey> verificationKeys = new ArrayList<>();
+
+    @Setter
+    @Getter
+    public static class VerificationKey {
+        private String kid;
+        // RSA public key, PEM or base64 encoded X.509 SubjectPublicKeyInfo
+        private String publicKey;
+        // End of the overlap window; the key is dropped from the ring after this instant
+        private Instant notAfter;
+    }
+}
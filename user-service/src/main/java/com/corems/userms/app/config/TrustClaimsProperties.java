@@ -0,0 +1,22 @@
+package com.corems.userms.app.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "app.security.trust-claims")
+public class TrustClaimsProperties {
+
+    // Build the principal from verified access token claims instead of loading the user
+    private boolean enabled = false;
+
+    // Paths that always read the user from the database, so deletions and role changes apply at once
+    private List<String> revocationCheckPaths = new ArrayList<>(List.of("/api/users/**"));
+}
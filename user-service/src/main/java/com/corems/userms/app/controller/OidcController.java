@@ -4,29 +4,52 @@ import com.corems.userms.api.OidcApi;
 import com.corems.userms.api.model.JwksResponse;
 import com.corems.userms.api.model.OidcConfiguration;
 import com.corems.userms.api.model.OidcUserInfo;
+import com.corems.userms.app.model.Versioned;
 import com.corems.userms.app.service.OidcService;
+import com.corems.userms.app.util.EtagUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Duration;
+
 @RestController
 @RequiredArgsConstructor
 public class OidcController implements OidcApi {
 
+    private static final CacheControl USER_INFO_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
     private final OidcService oidcService;
 
+    @Value("${app.oidc.discovery-max-age:PT1H}")
+    private Duration discoveryMaxAge;
+
+    // Keep this well below the key rotation overlap so relying parties see new keys before they are used
+    @Value("${app.oidc.jwks-max-age:PT5M}")
+    private Duration jwksMaxAge;
+
     @Override
     public ResponseEntity<OidcConfiguration> getOidcConfiguration() {
-        return ResponseEntity.ok(oidcService.getDiscoveryDocument());
+        return conditional(oidcService.getVersionedDiscoveryDocument(), CacheControl.maxAge(discoveryMaxAge).cachePublic());
     }
 
     @Override
     public ResponseEntity<JwksResponse> getJwks() {
-        return ResponseEntity.ok(oidcService.getJwks());
+        return conditional(oidcService.getVersionedJwks(), CacheControl.maxAge(jwksMaxAge).cachePublic());
     }
 
     @Override
     public ResponseEntity<OidcUserInfo> getUserInfo() {
-        return ResponseEntity.ok(oidcService.getUserInfo());
+        return conditional(oidcService.getVersionedUserInfo(), USER_INFO_CACHE_CONTROL);
+    }
+
+    private static <T> ResponseEntity<T> conditional(Versioned<T> document, CacheControl cacheControl) {
+        if (EtagUtils.isNotModified(document.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(document.etag()).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok().eTag(document.etag()).cacheControl(cacheControl).body(document.value());
     }
 }
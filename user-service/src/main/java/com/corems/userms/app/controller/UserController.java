@@ -4,14 +4,22 @@ import com.corems.common.security.CoreMsRoles;
 import com.corems.common.security.RequireRoles;
 import com.corems.userms.api.AdminApi;
 import com.corems.userms.api.model.AdminSetPasswordRequest;
+import com.corems.userms.api.model.BatchGetUsersRequest;
+import com.corems.userms.api.model.BatchGetUsersResponse;
 import com.corems.userms.api.model.ChangeEmailRequest;
 import com.corems.userms.api.model.CreateUserRequest;
+import com.corems.userms.api.model.StartVerificationCampaignRequest;
 import com.corems.userms.api.model.SuccessfulResponse;
 import com.corems.userms.api.model.UserInfo;
 import com.corems.userms.api.model.UsersPagedResponse;
+import com.corems.userms.api.model.VerificationCampaign;
+import com.corems.userms.app.model.Versioned;
 import com.corems.userms.app.service.UserService;
+import com.corems.userms.app.service.VerificationCampaignService;
+import com.corems.userms.app.util.EtagUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
@@ -25,11 +33,19 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class UserController implements AdminApi {
 
+    // Clients may keep a copy but must revalidate it with If-None-Match
+    private static final CacheControl USER_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
     private final UserService userService;
+    private final VerificationCampaignService verificationCampaignService;
 
     @Override
     public ResponseEntity<UserInfo> getUserById(UUID userId) {
-        return ResponseEntity.ok(userService.getUserById(userId));
+        Versioned<UserInfo> user = userService.getVersionedUserById(userId);
+        if (EtagUtils.isNotModified(user.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(user.etag()).cacheControl(USER_CACHE_CONTROL).build();
+        }
+        return ResponseEntity.ok().eTag(user.etag()).cacheControl(USER_CACHE_CONTROL).body(user.value());
     }
 
     @Override
@@ -38,14 +54,21 @@ public class UserController implements AdminApi {
         return ResponseEntity.ok(userService.updateUserById(userId, userInfo));
     }
 
+    @Override
+    public ResponseEntity<BatchGetUsersResponse> batchGetUsers(BatchGetUsersRequest batchGetUsersRequest) {
+        return ResponseEntity.ok(userService.getUsersByIds(batchGetUsersRequest.getUserIds()));
+    }
+
     @Override
     public ResponseEntity<UsersPagedResponse> getAllUsers(
             Optional<Integer> page,
             Optional<Integer> pageSize,
             Optional<String> sort,
             Optional<String> search,
-            Optional<List<String>> filter) {
-        return ResponseEntity.ok(userService.getAllUsers(page, pageSize, search, sort, filter));
+            Optional<List<String>> filter,
+            Optional<String> cursor,
+            Optional<Boolean> includeTotal) {
+        return ResponseEntity.ok(userService.getAllUsers(page, pageSize, search, sort, filter, cursor, includeTotal));
     }
 
     @Override
@@ -71,4 +94,22 @@ public class UserController implements AdminApi {
     public ResponseEntity<SuccessfulResponse> adminChangeUserEmail(UUID userId, ChangeEmailRequest request) {
         return ResponseEntity.ok(userService.adminChangeUserEmail(userId, request));
     }
+
+    @Override
+    @RequireRoles(CoreMsRoles.USER_MS_ADMIN)
+    public ResponseEntity<VerificationCampaign> startVerificationCampaign(StartVerificationCampaignRequest request) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(verificationCampaignService.startCampaign(request));
+    }
+
+    @Override
+    @RequireRoles(CoreMsRoles.USER_MS_ADMIN)
+    public ResponseEntity<VerificationCampaign> getVerificationCampaign(UUID campaignId) {
+        return ResponseEntity.ok(verificationCampaignService.getCampaign(campaignId));
+    }
+
+    @Override
+    @RequireRoles(CoreMsRoles.USER_MS_ADMIN)
+    public ResponseEntity<VerificationCampaign> cancelVerificationCampaign(UUID campaignId) {
+        return ResponseEntity.ok(verificationCampaignService.cancelCampaign(campaignId));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,49 @@
+package com.corems.userms.app.controller;
+
+import com.corems.common.security.CoreMsRoles;
+import com.corems.common.security.RequireRoles;
+import com.corems.userms.app.model.enums.UserExportFormat;
+import com.corems.userms.app.service.UserExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+import java.util.UUID;
+
+// Not part of the OpenAPI contract: the generated interfaces cannot express a streamed body
+@RestController
+@RequestMapping("/api/users")
+@RequiredArgsConstructor
+public class UserExportController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final MediaType CSV = MediaType.parseMediaType("text/csv");
+
+    private final UserExportService userExportService;
+
+    @GetMapping("/export")
+    @RequireRoles(CoreMsRoles.USER_MS_ADMIN)
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @RequestParam(defaultValue = "ndjson") UserExportFormat format,
+            @RequestParam(required = false) String provider,
+            @RequestParam(required = false) List<UUID> userId) {
+
+        StreamingResponseBody body = outputStream -> userExportService.export(format, provider, userId, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(format == UserExportFormat.csv ? CSV : NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("users." + format.name())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+}
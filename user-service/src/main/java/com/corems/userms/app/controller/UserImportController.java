@@ -0,0 +1,36 @@
+package com.corems.userms.app.controller;
+
+import com.corems.common.security.CoreMsRoles;
+import com.corems.common.security.RequireRoles;
+import com.corems.userms.api.model.UserImportResponse;
+import com.corems.userms.app.model.enums.UserExportFormat;
+import com.corems.userms.app.service.UserImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+// Not part of the OpenAPI contract: the body is read as a stream instead of being bound to a model
+@RestController
+@RequestMapping("/api/users")
+@RequiredArgsConstructor
+public class UserImportController {
+
+    private static final MediaType CSV = MediaType.parseMediaType("text/csv");
+
+    private final UserImportService userImportService;
+
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "text/csv"})
+    @RequireRoles(CoreMsRoles.USER_MS_ADMIN)
+    public ResponseEntity<UserImportResponse> importUsers(HttpServletRequest request) throws IOException {
+        UserExportFormat format = MediaType.parseMediaType(request.getContentType()).isCompatibleWith(CSV)
+                ? UserExportFormat.csv
+                : UserExportFormat.ndjson;
+        return ResponseEntity.ok(userImportService.importUsers(format, request.getInputStream()));
+    }
+}
@@ -19,8 +19,10 @@ import java.util.UUID;
 @AllArgsConstructor
 public class ActionTokenEntity {
 
+    // Pooled sequence (V1.8.0) so verification campaigns can batch token inserts
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "action_tokens_seq")
+    @SequenceGenerator(name = "action_tokens_seq", sequenceName = "action_tokens_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "uuid", nullable = false, unique = true)
@@ -36,12 +36,16 @@ public class LoginTokenEntity {
     @Column(nullable = false, unique = true, updatable = false, length = 36)
     private UUID uuid;
 
+    // All tokens issued by rotating the same login share a family; reuse of a rotated token revokes the family
+    @Column(name = "family_id", nullable = false, updatable = false)
+    private UUID familyId;
+
     @ManyToOne
     @JoinColumn(name = "user_id")
     private UserEntity user;
 
-    @Column(columnDefinition = "TEXT", unique = true, nullable = false, updatable = false)
-    private String token;
+    @Column(name = "token_hash", length = 64, unique = true, nullable = false, updatable = false)
+    private String tokenHash;
 
     @Column
     @CreationTimestamp
@@ -52,6 +56,9 @@ public class LoginTokenEntity {
         if (uuid == null) {
             uuid = UUID.randomUUID();
         }
+        if (familyId == null) {
+            familyId = uuid;
+        }
         if (createdAt == null) {
             createdAt = Instant.now();
         }
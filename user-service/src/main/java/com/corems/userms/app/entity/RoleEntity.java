@@ -35,7 +35,8 @@ public class RoleEntity {
     }
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "app_user_role_seq")
+    @SequenceGenerator(name = "app_user_role_seq", sequenceName = "app_user_role_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne
@@ -19,6 +19,7 @@ import lombok.NonNull;
 import lombok.Setter;
 import lombok.ToString;
 import net.minidev.json.annotate.JsonIgnore;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -52,8 +53,10 @@ public class UserEntity {
         }
     }
 
+    // Pooled sequence (V1.6.0 sets INCREMENT BY 50) so Hibernate can batch inserts; IDENTITY disables batching
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "app_user_seq")
+    @SequenceGenerator(name = "app_user_seq", sequenceName = "app_user_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true, updatable = false, length = 36)
@@ -62,6 +65,8 @@ public class UserEntity {
     @OneToMany(fetch = FetchType.LAZY, mappedBy = "user", cascade = jakarta.persistence.CascadeType.ALL, orphanRemoval = true)
     private Collection<LoginTokenEntity> tokens = new ArrayList<>();
 
+    // Roles of a whole result page are loaded in one IN query instead of one select per user
+    @BatchSize(size = 100)
     @OneToMany(fetch = FetchType.EAGER, mappedBy = "user", cascade = jakarta.persistence.CascadeType.ALL, orphanRemoval = true)
     private Collection<RoleEntity> roles = new ArrayList<>();
 
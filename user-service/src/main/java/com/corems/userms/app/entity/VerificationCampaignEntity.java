@@ -0,0 +1,82 @@
+package com.corems.userms.app.entity;
+
+import com.corems.userms.app.model.enums.VerificationCampaignStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "verification_campaign")
+public class VerificationCampaignEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, updatable = false)
+    private UUID uuid = UUID.randomUUID();
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private VerificationCampaignStatus status = VerificationCampaignStatus.RUNNING;
+
+    @Column(name = "send_email", nullable = false)
+    private boolean sendEmail;
+
+    @Column(name = "send_sms", nullable = false)
+    private boolean sendSms;
+
+    @Column(name = "rate_per_second", nullable = false)
+    private int ratePerSecond;
+
+    @Column(name = "total_candidates", nullable = false)
+    private long totalCandidates;
+
+    // Checkpoint: every user with a lower id has been handled
+    @Column(name = "last_user_id", nullable = false)
+    private long lastUserId;
+
+    @Column(nullable = false)
+    private long processed;
+
+    @Column(name = "emails_queued", nullable = false)
+    private long emailsQueued;
+
+    @Column(name = "sms_queued", nullable = false)
+    private long smsQueued;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    // A cancel that races a running chunk makes the chunk roll back instead of overwriting the status
+    @Version
+    private long version;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @Column(name = "completed_at")
+    private Instant completedAt;
+}
@@ -14,7 +14,13 @@ public enum UserServiceExceptionReasonCodes implements ExceptionReasonCodes {
     USER_EXISTS("user.exists", HttpStatus.BAD_REQUEST, "User already exists"),
     INVALID_ROLE("user.invalidrole", HttpStatus.BAD_REQUEST, "Invalid role specified"),
     USER_NOT_FOUND("user.notfound", HttpStatus.BAD_REQUEST, "User not found"),
-    TOKEN_NOT_FOUND("token.notfound", HttpStatus.BAD_REQUEST, "Token not found. Please login again.");
+    TOKEN_NOT_FOUND("token.notfound", HttpStatus.BAD_REQUEST, "Token not found. Please login again."),
+    INVALID_IMPORT("user.invalidimport", HttpStatus.BAD_REQUEST, "Invalid import file"),
+    INVALID_PAGINATION("user.invalidpagination", HttpStatus.BAD_REQUEST, "Invalid pagination parameters"),
+    CAMPAIGN_NOT_FOUND("campaign.notfound", HttpStatus.NOT_FOUND, "Verification campaign not found"),
+    CAMPAIGN_RUNNING("campaign.running", HttpStatus.CONFLICT, "A verification campaign is already running"),
+    INVALID_CAMPAIGN("campaign.invalid", HttpStatus.BAD_REQUEST, "Invalid verification campaign"),
+    SERVICE_OVERLOADED("service.overloaded", HttpStatus.SERVICE_UNAVAILABLE, "Service is temporarily overloaded");
 
     private final String errorCode;
 
@@ -0,0 +1,20 @@
+package com.corems.userms.app.model;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record AuthorizationCode(
+        String code,
+        UUID userId,
+        String clientId,
+        String redirectUri,
+        String scope,
+        String codeChallenge,
+        String codeChallengeMethod,
+        String nonce,
+        Instant expiresAt) {
+
+    public boolean isExpired() {
+        return expiresAt.isBefore(Instant.now());
+    }
+}
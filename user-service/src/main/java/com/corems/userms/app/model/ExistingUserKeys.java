@@ -0,0 +1,5 @@
+package com.corems.userms.app.model;
+
+// Unique columns of a user that collides with a new registration
+public record ExistingUserKeys(String email, String phoneNumber) {
+}
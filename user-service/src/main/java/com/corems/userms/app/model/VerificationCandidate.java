@@ -0,0 +1,22 @@
+package com.corems.userms.app.model;
+
+import java.util.UUID;
+
+// Scalar projection of an unverified user; the campaign never hydrates UserEntity or its roles
+public record VerificationCandidate(
+        Long id,
+        UUID uuid,
+        String email,
+        String firstName,
+        String phoneNumber,
+        Boolean emailVerified,
+        Boolean phoneVerified) {
+
+    public boolean needsEmailVerification() {
+        return !Boolean.TRUE.equals(emailVerified);
+    }
+
+    public boolean needsSmsVerification() {
+        return phoneNumber != null && !Boolean.TRUE.equals(phoneVerified);
+    }
+}
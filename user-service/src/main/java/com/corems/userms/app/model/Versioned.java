@@ -0,0 +1,4 @@
+package com.corems.userms.app.model;
+
+public record Versioned<T>(T value, String etag) {
+}
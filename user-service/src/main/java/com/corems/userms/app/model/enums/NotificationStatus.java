@@ -0,0 +1,6 @@
+package com.corems.userms.app.model.enums;
+
+public enum NotificationStatus {
+    PENDING,
+    FAILED
+}
@@ -0,0 +1,7 @@
+package com.corems.userms.app.model.enums;
+
+public enum VerificationCampaignStatus {
+    RUNNING,
+    COMPLETED,
+    CANCELLED
+}
@@ -3,9 +3,13 @@ package com.corems.userms.app.repository;
 import com.corems.userms.app.entity.ActionTokenEntity;
 import com.corems.userms.app.model.enums.UserActionType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -18,7 +22,17 @@ public interface ActionTokenRepository extends JpaRepository<ActionTokenEntity,
     
     Optional<ActionTokenEntity> findByTokenHashAndActionTypeAndUsedFalseAndUserUuid(String tokenHash, UserActionType actionType, UUID userUuid);
 
-    void deleteByExpiresAtBefore(LocalDateTime now);
+    @Modifying
+    @Query(value = """
+            DELETE FROM {h-schema}action_tokens WHERE id IN (
+                SELECT id FROM {h-schema}action_tokens WHERE expires_at < :cutoff LIMIT :batchSize
+            )
+            """, nativeQuery = true)
+    int deleteExpiredBatch(@Param("cutoff") LocalDateTime cutoff, @Param("batchSize") int batchSize);
 
     void deleteByUserUuidAndActionType(UUID userUuid, UserActionType actionType);
+
+    @Modifying
+    @Query("DELETE FROM ActionTokenEntity t WHERE t.user.id IN :userIds AND t.actionType = :actionType")
+    int deleteByUserIdInAndActionType(@Param("userIds") Collection<Long> userIds, @Param("actionType") UserActionType actionType);
 }
\ No newline at end of file
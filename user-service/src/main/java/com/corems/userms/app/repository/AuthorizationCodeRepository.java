@@ -2,8 +2,12 @@ package com.corems.userms.app.repository;
 
 import com.corems.userms.app.entity.AuthorizationCodeEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -11,4 +15,16 @@ import java.util.UUID;
 public interface AuthorizationCodeRepository extends JpaRepository<AuthorizationCodeEntity, UUID> {
     
     Optional<AuthorizationCodeEntity> findByCode(String code);
+
+    @Modifying
+    @Query("UPDATE AuthorizationCodeEntity c SET c.isUsed = true, c.usedAt = :usedAt WHERE c.code = :code AND c.isUsed = false")
+    int markUsed(@Param("code") String code, @Param("usedAt") Instant usedAt);
+
+    @Modifying
+    @Query(value = """
+            DELETE FROM {h-schema}authorization_codes WHERE id IN (
+                SELECT id FROM {h-schema}authorization_codes WHERE is_used = TRUE OR expires_at < :cutoff LIMIT :batchSize
+            )
+            """, nativeQuery = true)
+    int deleteUsedOrExpiredBatch(@Param("cutoff") Instant cutoff, @Param("batchSize") int batchSize);
 }
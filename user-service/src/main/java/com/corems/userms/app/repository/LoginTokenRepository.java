@@ -2,14 +2,34 @@ package com.corems.userms.app.repository;
 
 import com.corems.userms.app.entity.LoginTokenEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface LoginTokenRepository extends JpaRepository<LoginTokenEntity, String> {
     Optional<LoginTokenEntity> findByUuid(UUID uuid);
-    Optional<LoginTokenEntity> findByToken(String token);
+    Optional<LoginTokenEntity> findByTokenHash(String tokenHash);
     void deleteByUuid(UUID uuid);
+
+    @Modifying
+    @Query("DELETE FROM LoginTokenEntity t WHERE t.id = :id")
+    int deleteTokenById(@Param("id") Long id);
+
+    @Modifying
+    @Query("DELETE FROM LoginTokenEntity t WHERE t.familyId = :familyId")
+    int deleteByFamilyId(@Param("familyId") UUID familyId);
+
+    @Modifying
+    @Query(value = """
+            DELETE FROM {h-schema}login_token WHERE id IN (
+                SELECT id FROM {h-schema}login_token WHERE created_at < :cutoff LIMIT :batchSize
+            )
+            """, nativeQuery = true)
+    int deleteCreatedBeforeBatch(@Param("cutoff") Instant cutoff, @Param("batchSize") int batchSize);
 }
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.corems.userms.app.repository;
+
+import com.corems.userms.app.entity.NotificationOutboxEntity;
+import com.corems.userms.app.model.enums.NotificationStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutboxEntity, Long> {
+
+    List<NotificationOutboxEntity> findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+            NotificationStatus status, Instant now, Limit limit);
+
+    long countByStatus(NotificationStatus status);
+
+    // FAILED rows keep verification and reset links in their payload, so they are only kept for a while
+    @Modifying
+    @Query(value = """
+            DELETE FROM {h-schema}notification_outbox WHERE id IN (
+                SELECT id FROM {h-schema}notification_outbox WHERE status = 'FAILED' AND created_at < :cutoff LIMIT :batchSize
+            )
+            """, nativeQuery = true)
+    int deleteFailedBatch(@Param("cutoff") Instant cutoff, @Param("batchSize") int batchSize);
+}
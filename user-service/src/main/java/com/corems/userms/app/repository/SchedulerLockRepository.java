@@ -0,0 +1,40 @@
+package com.corems.userms.app.repository;
+
+import com.corems.userms.app.entity.SchedulerLockEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+
+@Repository
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLockEntity, String> {
+
+    @Modifying
+    @Query("""
+            UPDATE SchedulerLockEntity l
+            SET l.lockedUntil = :lockedUntil, l.lockedBy = :owner
+            WHERE l.name = :name AND (l.lockedUntil <= :now OR l.lockedBy = :owner)
+            """)
+    int tryAcquire(@Param("name") String name,
+                   @Param("owner") String owner,
+                   @Param("now") Instant now,
+                   @Param("lockedUntil") Instant lockedUntil);
+
+    // ON CONFLICT leaves the transaction usable when another instance inserted the lock first
+    @Modifying
+    @Query(value = """
+            INSERT INTO {h-schema}scheduler_lock (name, locked_until, locked_by)
+            VALUES (:name, :lockedUntil, :owner)
+            ON CONFLICT DO NOTHING
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("name") String name,
+                       @Param("owner") String owner,
+                       @Param("lockedUntil") Instant lockedUntil);
+
+    @Modifying
+    @Query("UPDATE SchedulerLockEntity l SET l.lockedUntil = :now WHERE l.name = :name AND l.lockedBy = :owner")
+    int release(@Param("name") String name, @Param("owner") String owner, @Param("now") Instant now);
+}
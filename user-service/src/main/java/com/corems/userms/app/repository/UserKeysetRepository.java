@@ -0,0 +1,14 @@
+package com.corems.userms.app.repository;
+
+import com.corems.userms.app.entity.UserEntity;
+
+import java.time.Instant;
+import java.util.List;
+
+// Seek pagination on (created_at, id) descending, avoiding OFFSET scans on large tables
+public interface UserKeysetRepository {
+
+    List<UserEntity> findPageAfter(Instant createdAt, Long id, String search, int limit);
+
+    long countMatching(String search);
+}
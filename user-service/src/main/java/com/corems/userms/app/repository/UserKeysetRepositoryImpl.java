@@ -0,0 +1,62 @@
+package com.corems.userms.app.repository;
+
+import com.corems.userms.app.entity.UserEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.util.StringUtils;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+public class UserKeysetRepositoryImpl implements UserKeysetRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<UserEntity> findPageAfter(Instant createdAt, Long id, String search, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<UserEntity> query = cb.createQuery(UserEntity.class);
+        Root<UserEntity> user = query.from(UserEntity.class);
+
+        List<Predicate> predicates = new ArrayList<>(searchPredicates(cb, user, search));
+        if (createdAt != null && id != null) {
+            predicates.add(cb.or(
+                    cb.lessThan(user.get("createdAt"), createdAt),
+                    cb.and(cb.equal(user.get("createdAt"), createdAt), cb.lessThan(user.get("id"), id))
+            ));
+        }
+
+        query.select(user)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.desc(user.get("createdAt")), cb.desc(user.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public long countMatching(String search) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<UserEntity> user = query.from(UserEntity.class);
+
+        query.select(cb.count(user))
+                .where(searchPredicates(cb, user, search).toArray(Predicate[]::new));
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private List<Predicate> searchPredicates(CriteriaBuilder cb, Root<UserEntity> user, String search) {
+        if (!StringUtils.hasText(search)) {
+            return List.of();
+        }
+        return List.of(UserSearchPredicates.matches(cb, user, search));
+    }
+}
@@ -1,22 +1,75 @@
 package com.corems.userms.app.repository;
 
 import com.corems.userms.app.entity.UserEntity;
+import com.corems.userms.app.model.ExistingUserKeys;
+import com.corems.userms.app.model.VerificationCandidate;
 import com.corems.common.utils.db.repo.SearchableRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
-public interface UserRepository extends SearchableRepository<UserEntity, String> {
+public interface UserRepository extends SearchableRepository<UserEntity, String>, UserKeysetRepository {
     Optional<UserEntity> findByEmail(String username);
 
     Optional<UserEntity> findByPhoneNumber(String phoneNumber);
 
     Optional<UserEntity> findByUuid(UUID id);
 
+    List<UserEntity> findAllByUuidIn(Collection<UUID> uuids);
+
+    // Both unique columns in one round trip, without hydrating the user and its roles; a null phone matches nothing
+    @Query("""
+            SELECT new com.corems.userms.app.model.ExistingUserKeys(u.email, u.phoneNumber)
+            FROM UserEntity u
+            WHERE u.email = :email OR u.phoneNumber = :phoneNumber
+            """)
+    List<ExistingUserKeys> findExistingUserKeys(@Param("email") String email, @Param("phoneNumber") String phoneNumber);
+
+    @Query("SELECT u.email FROM UserEntity u WHERE u.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @Query("SELECT u.phoneNumber FROM UserEntity u WHERE u.phoneNumber IN :phoneNumbers")
+    List<String> findExistingPhoneNumbers(@Param("phoneNumbers") Collection<String> phoneNumbers);
+
+    // Keyset chunk of unverified users; the literal predicate matches the partial index from V1.8.0
+    @Query("""
+            SELECT new com.corems.userms.app.model.VerificationCandidate(
+                u.id, u.uuid, u.email, u.firstName, u.phoneNumber, u.emailVerified, u.phoneVerified)
+            FROM UserEntity u
+            WHERE u.id > :afterId AND (u.emailVerified = false OR u.phoneVerified = false)
+            ORDER BY u.id
+            """)
+    List<VerificationCandidate> findVerificationCandidates(@Param("afterId") long afterId, Pageable pageable);
+
+    @Query("SELECT count(u) FROM UserEntity u WHERE u.emailVerified = false OR u.phoneVerified = false")
+    long countVerificationCandidates();
+
+    // PostgreSQL only: served by the pg_trgm indexes on lower(email), lower(first_name) and lower(last_name)
+    @Query(value = """
+            SELECT * FROM {h-schema}app_user
+            WHERE lower(email) LIKE :pattern ESCAPE '\\'
+               OR lower(first_name) LIKE :pattern ESCAPE '\\'
+               OR lower(last_name) LIKE :pattern ESCAPE '\\'
+            ORDER BY created_at DESC, id DESC
+            """,
+            countQuery = """
+            SELECT count(*) FROM {h-schema}app_user
+            WHERE lower(email) LIKE :pattern ESCAPE '\\'
+               OR lower(first_name) LIKE :pattern ESCAPE '\\'
+               OR lower(last_name) LIKE :pattern ESCAPE '\\'
+            """,
+            nativeQuery = true)
+    Page<UserEntity> searchByTrigram(@Param("pattern") String pattern, Pageable pageable);
+
     @Override
     default List<String> getSearchFields() {
         return List.of("email", "firstName", "lastName");
@@ -0,0 +1,31 @@
+package com.corems.userms.app.repository;
+
+import com.corems.userms.app.entity.UserEntity;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.util.Locale;
+
+// lower(column) LIKE '%term%' matches the lower(...) gin_trgm_ops indexes from V1.5.0
+public class UserSearchPredicates {
+
+    public static final char ESCAPE_CHAR = '\\';
+
+    public static Predicate matches(CriteriaBuilder cb, Root<UserEntity> user, String search) {
+        String pattern = containsPattern(search);
+        return cb.or(
+                cb.like(cb.lower(user.get("email")), pattern, ESCAPE_CHAR),
+                cb.like(cb.lower(user.get("firstName")), pattern, ESCAPE_CHAR),
+                cb.like(cb.lower(user.get("lastName")), pattern, ESCAPE_CHAR)
+        );
+    }
+
+    public static String containsPattern(String search) {
+        String escaped = search.toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
@@ -0,0 +1,19 @@
+package com.corems.userms.app.repository;
+
+import com.corems.userms.app.entity.VerificationCampaignEntity;
+import com.corems.userms.app.model.enums.VerificationCampaignStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface VerificationCampaignRepository extends JpaRepository<VerificationCampaignEntity, Long> {
+
+    Optional<VerificationCampaignEntity> findByUuid(UUID uuid);
+
+    Optional<VerificationCampaignEntity> findFirstByStatusOrderByIdAsc(VerificationCampaignStatus status);
+
+    boolean existsByStatus(VerificationCampaignStatus status);
+}
@@ -2,15 +2,19 @@ package com.corems.userms.app.security;
 
 import com.corems.common.exception.ServiceException;
 import com.corems.common.security.UserPrincipal;
+import com.corems.common.security.service.TokenProvider;
 import com.corems.userms.app.entity.UserEntity;
 import com.corems.userms.app.exception.UserServiceExceptionReasonCodes;
 import com.corems.userms.app.repository.UserRepository;
+import com.corems.userms.app.security.UserPrincipalCache.CachedPrincipal;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -18,6 +22,7 @@ import java.util.UUID;
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final UserPrincipalCache principalCache;
 
     @Override
     public UserPrincipal loadUserByUsername(String email) throws UsernameNotFoundException {
@@ -36,16 +41,54 @@ public class CustomUserDetailsService implements UserDetailsService {
     }
 
     public UserPrincipal loadUserById(UUID userId, UUID tokenId) {
+        return toUserPrincipal(principalCache.get(userId, this::loadPrincipal), tokenId);
+    }
+
+    // Reads the database directly: the principal cache is only invalidated on the replica that made the change
+    public UserPrincipal loadCurrentUserById(UUID userId, UUID tokenId) {
+        return toUserPrincipal(loadPrincipal(userId), tokenId);
+    }
+
+    private static UserPrincipal toUserPrincipal(CachedPrincipal user, UUID tokenId) {
+        return new UserPrincipal(
+                user.userId(),
+                user.email(),
+                user.firstName(),
+                user.lastName(),
+                tokenId,
+                user.authorities()
+        );
+    }
+
+    public UserPrincipal loadUserFromClaims(UUID userId, UUID tokenId, Claims claims) {
+        String email = claims.get(TokenProvider.CLAIM_EMAIL, String.class);
+        List<?> roles = claims.get(TokenProvider.CLAIM_ROLES, List.class);
+
+        if (email == null || roles == null) {
+            // Tokens issued without profile claims cannot be trusted on their own
+            return loadUserById(userId, tokenId);
+        }
+
+        return new UserPrincipal(
+                userId,
+                email,
+                claims.get(TokenProvider.CLAIM_FIRST_NAME, String.class),
+                claims.get(TokenProvider.CLAIM_LAST_NAME, String.class),
+                tokenId,
+                roles.stream().map(r -> new SimpleGrantedAuthority(String.valueOf(r))).toList()
+        );
+    }
+
+    private CachedPrincipal loadPrincipal(UUID userId) {
         UserEntity user = userRepository
                 .findByUuid(userId)
                 .orElseThrow(() -> ServiceException.of(UserServiceExceptionReasonCodes.USER_NOT_FOUND, String.format("User not found with ID: %s.", userId)));
 
-        return new UserPrincipal(
+        return new CachedPrincipal(
                 user.getUuid(),
                 user.getEmail(),
                 user.getFirstName(),
                 user.getLastName(),
-                tokenId,
                 user.getRoles().stream().map(r -> new SimpleGrantedAuthority(r.getName())).toList()
         );
     }
@@ -0,0 +1,125 @@
+package com.corems.userms.app.security;
+
+import com.corems.common.security.config.CoremsJwtProperties;
+import com.corems.common.security.service.TokenProvider;
+import com.corems.userms.app.config.SigningKeyRingProperties;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.JwtParserBuilder;
+import io.jsonwebtoken.Jwts;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+// The current signing key is owned by TokenProvider; this ring adds the other keys that are still
+// published in JWKS and accepted for verification during a rotation overlap window.
+@Slf4j
+@Component
+public class SigningKeyRing {
+
+    private final TokenProvider tokenProvider;
+    private final CoremsJwtProperties jwtProperties;
+
+    private volatile Map<String, RingKey> verificationKeys;
+
+    public SigningKeyRing(TokenProvider tokenProvider,
+                          CoremsJwtProperties jwtProperties,
+                          SigningKeyRingProperties properties) {
+        this.tokenProvider = tokenProvider;
+        this.jwtProperties = jwtProperties;
+        this.verificationKeys = load(properties);
+    }
+
+    public String getCurrentKeyId() {
+        return tokenProvider.getKeyId();
+    }
+
+    public Optional<JwtParser> findVerificationParser(String kid) {
+        RingKey key = verificationKeys.get(kid);
+        if (key == null || key.isExpired(Instant.now())) {
+            return Optional.empty();
+        }
+        return Optional.of(key.parser());
+    }
+
+    // Current key first, then the overlap keys in configuration order
+    public Map<String, PublicKey> getPublishedKeys() {
+        Map<String, PublicKey> keys = new LinkedHashMap<>();
+        PublicKey currentKey = tokenProvider.getPublicKey();
+        if (currentKey != null) {
+            keys.put(getCurrentKeyId(), currentKey);
+        }
+        Instant now = Instant.now();
+        verificationKeys.forEach((kid, key) -> {
+            if (!key.isExpired(now)) {
+                keys.putIfAbsent(kid, key.publicKey());
+            }
+        });
+        return keys;
+    }
+
+    // Returns true when a key left the ring, so the published JWKS has to be rebuilt
+    public boolean pruneExpired() {
+        Instant now = Instant.now();
+        Map<String, RingKey> remaining = new LinkedHashMap<>();
+        verificationKeys.forEach((kid, key) -> {
+            if (key.isExpired(now)) {
+                log.info("Signing key {} reached the end of its overlap window", kid);
+            } else {
+                remaining.put(kid, key);
+            }
+        });
+        if (remaining.size() == verificationKeys.size()) {
+            return false;
+        }
+        verificationKeys = remaining;
+        return true;
+    }
+
+    private Map<String, RingKey> load(SigningKeyRingProperties properties) {
+        Map<String, RingKey> keys = new LinkedHashMap<>();
+        for (SigningKeyRingProperties.VerificationKey configured : properties.getVerificationKeys()) {
+            if (configured.getKid() == null || configured.getKid().equals(getCurrentKeyId())) {
+                continue;
+            }
+            PublicKey publicKey = parsePublicKey(configured.getKid(), configured.getPublicKey());
+            keys.put(configured.getKid(), new RingKey(publicKey, buildParser(publicKey), configured.getNotAfter()));
+        }
+        return keys;
+    }
+
+    private JwtParser buildParser(PublicKey publicKey) {
+        JwtParserBuilder builder = Jwts.parser().verifyWith(publicKey);
+        if (jwtProperties.getIssuer() != null) {
+            builder.requireIssuer(jwtProperties.getIssuer());
+        }
+        return builder.build();
+    }
+
+    private static PublicKey parsePublicKey(String kid, String encoded) {
+        String base64 = encoded
+                .replace("-----BEGIN PUBLIC KEY-----", "")
+                .replace("-----END PUBLIC KEY-----", "")
+                .replaceAll("\\s", "");
+        try {
+            return KeyFactory.getInstance("RSA").generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(base64)));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("Invalid public key for signing key " + kid, e);
+        }
+    }
+
+    private record RingKey(PublicKey publicKey, JwtParser parser, Instant notAfter) {
+
+        boolean isExpired(Instant now) {
+            return notAfter != null && notAfter.isBefore(now);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.corems.userms.app.security;
 
 import com.corems.common.security.service.TokenProvider;
+import com.corems.userms.app.config.TrustClaimsProperties;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -14,6 +15,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Service;
+import org.springframework.util.AntPathMatcher;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -25,9 +27,10 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class TokenAuthenticationFilter extends OncePerRequestFilter {
 
-    private final TokenProvider tokenProvider;
+    private final TokenClaimsVerifier tokenClaimsVerifier;
     private final CustomUserDetailsService userDetailsService;
-
+    private final TrustClaimsProperties trustClaimsProperties;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
 
     private String getJWTFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader(HttpHeaders.AUTHORIZATION);
@@ -46,8 +49,9 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
 
         String jwt = getJWTFromRequest(request);
 
-        if (StringUtils.hasText(jwt) && tokenProvider.isTokenValid(jwt)) {
-            Claims claims = tokenProvider.getAllClaims(jwt);
+        Claims claims = StringUtils.hasText(jwt) ? tokenClaimsVerifier.verify(jwt).orElse(null) : null;
+
+        if (claims != null) {
             String userIdStr = claims.getSubject();
             String tokenIdStr = claims.get(TokenProvider.CLAIM_TOKEN_ID, String.class);
             
@@ -55,7 +59,15 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
                 UUID userId = UUID.fromString(userIdStr);
                 UUID tokenId = StringUtils.hasText(tokenIdStr) ? UUID.fromString(tokenIdStr) : null;
                 
-                UserDetails userDetails = userDetailsService.loadUserById(userId, tokenId);
+                UserDetails userDetails;
+                if (requiresRevocationCheck(request)) {
+                    // Role changes and deletions must apply at once, including those made on other replicas
+                    userDetails = userDetailsService.loadCurrentUserById(userId, tokenId);
+                } else if (trustClaimsProperties.isEnabled()) {
+                    userDetails = userDetailsService.loadUserFromClaims(userId, tokenId, claims);
+                } else {
+                    userDetails = userDetailsService.loadUserById(userId, tokenId);
+                }
 
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
                         userDetails,
@@ -70,4 +82,9 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private boolean requiresRevocationCheck(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return trustClaimsProperties.getRevocationCheckPaths().stream().anyMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
 }
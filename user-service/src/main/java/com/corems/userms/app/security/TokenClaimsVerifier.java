@@ -0,0 +1,146 @@
+package com.corems.userms.app.security;
+
+import com.corems.common.security.service.TokenProvider;
+import com.corems.userms.app.util.HashUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Optional;
+
+@Slf4j
+@Component
+public class TokenClaimsVerifier {
+
+    private static final String CACHE_NAME = "user.verified-token";
+
+    private final TokenProvider tokenProvider;
+    private final SigningKeyRing signingKeyRing;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, Claims> verifiedTokens;
+
+    @Autowired
+    public TokenClaimsVerifier(TokenProvider tokenProvider,
+                               SigningKeyRing signingKeyRing,
+                               ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.security.verified-token-cache.max-size:10000}") long maxSize,
+                               @Value("${app.security.verified-token-cache.ttl-seconds:30}") long ttlSeconds) {
+        this(tokenProvider, signingKeyRing, objectMapper, meterRegistry, maxSize, ttlSeconds, Ticker.systemTicker());
+    }
+
+    TokenClaimsVerifier(TokenProvider tokenProvider, SigningKeyRing signingKeyRing, ObjectMapper objectMapper,
+                        MeterRegistry meterRegistry, long maxSize, long ttlSeconds, Ticker ticker) {
+        this.tokenProvider = tokenProvider;
+        this.signingKeyRing = signingKeyRing;
+        this.objectMapper = objectMapper;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new ClaimsExpiry(Duration.ofSeconds(ttlSeconds)))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, CACHE_NAME);
+    }
+
+    public Optional<Claims> verify(String token) {
+        String digest = HashUtils.sha256Hex(token);
+
+        Claims cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            if (isExpired(cached)) {
+                verifiedTokens.invalidate(digest);
+                return Optional.empty();
+            }
+            return Optional.of(cached);
+        }
+
+        Claims claims;
+        try {
+            claims = parseClaims(token);
+        } catch (RuntimeException e) {
+            log.debug("Token verification failed: {}", e.getMessage());
+            return Optional.empty();
+        }
+
+        if (claims == null || isExpired(claims)) {
+            return Optional.empty();
+        }
+
+        verifiedTokens.put(digest, claims);
+        return Optional.of(claims);
+    }
+
+    // Tokens signed by an overlap key resolve to its ring parser; everything else goes through TokenProvider
+    private Claims parseClaims(String token) {
+        String kid = readKeyId(token);
+        if (kid != null && !kid.equals(signingKeyRing.getCurrentKeyId())) {
+            Optional<JwtParser> parser = signingKeyRing.findVerificationParser(kid);
+            if (parser.isPresent()) {
+                return parser.get().parseSignedClaims(token).getPayload();
+            }
+        }
+        return tokenProvider.getAllClaims(token);
+    }
+
+    private String readKeyId(String token) {
+        int headerEnd = token.indexOf('.');
+        if (headerEnd <= 0) {
+            return null;
+        }
+        try {
+            byte[] header = Base64.getUrlDecoder().decode(token.substring(0, headerEnd));
+            JsonNode kid = objectMapper.readTree(header).get("kid");
+            return kid != null && kid.isTextual() ? kid.asText() : null;
+        } catch (IOException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static boolean isExpired(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return expiration != null && expiration.toInstant().isBefore(Instant.now());
+    }
+
+    // Never keep a verified token around longer than the token itself is valid
+    private record ClaimsExpiry(Duration ttl) implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            long ttlNanos = ttl.toNanos();
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return ttlNanos;
+            }
+            long remainingNanos = Duration.ofMillis(expiration.getTime() - System.currentTimeMillis()).toNanos();
+            return Math.max(0, Math.min(ttlNanos, remainingNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.corems.userms.app.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+@Component
+public class UserPrincipalCache {
+
+    private static final String CACHE_NAME = "user.principal";
+
+    private final Cache<UUID, CachedPrincipal> cache;
+    private final boolean enabled;
+
+    @Autowired
+    public UserPrincipalCache(MeterRegistry meterRegistry,
+                              @Value("${app.security.principal-cache.enabled:true}") boolean enabled,
+                              @Value("${app.security.principal-cache.max-size:10000}") long maxSize,
+                              @Value("${app.security.principal-cache.ttl-seconds:60}") long ttlSeconds) {
+        this(meterRegistry, enabled, maxSize, ttlSeconds, Ticker.systemTicker());
+    }
+
+    UserPrincipalCache(MeterRegistry meterRegistry, boolean enabled, long maxSize, long ttlSeconds, Ticker ticker) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public CachedPrincipal get(UUID userId, Function<UUID, CachedPrincipal> loader) {
+        if (!enabled) {
+            return loader.apply(userId);
+        }
+        return cache.get(userId, loader);
+    }
+
+    public void invalidate(UUID userId) {
+        if (userId != null) {
+            cache.invalidate(userId);
+        }
+    }
+
+    // Token id differs per request, so only the user part of the principal is cached
+    public record CachedPrincipal(
+            UUID userId,
+            String email,
+            String firstName,
+            String lastName,
+            List<SimpleGrantedAuthority> authorities) {
+    }
+}
@@ -7,7 +7,9 @@ import com.corems.common.exception.handler.DefaultExceptionReasonCodes;
 import com.corems.userms.app.entity.LoginTokenEntity;
 import com.corems.userms.app.repository.LoginTokenRepository;
 import com.corems.userms.app.repository.UserRepository;
+import com.corems.userms.app.service.TokenService;
 import com.corems.userms.app.util.CookieUtils;
+import com.corems.userms.app.util.HashUtils;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -59,6 +61,7 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
         UUID tokenId = UUID.randomUUID();
         String token = tokenProvider.createRefreshToken(userPrincipal.getUserId().toString(), Map.of(
                 TokenProvider.CLAIM_TOKEN_ID, tokenId.toString(),
+                TokenService.CLAIM_FAMILY_ID, tokenId.toString(),
                 TokenProvider.CLAIM_EMAIL, userPrincipal.getEmail(),
                 TokenProvider.CLAIM_FIRST_NAME, userPrincipal.getFirstName(),
                 TokenProvider.CLAIM_LAST_NAME, userPrincipal.getLastName(),
@@ -67,9 +70,10 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
 
         LoginTokenEntity loginToken = new LoginTokenEntity();
         loginToken.setUuid(tokenId);
+        loginToken.setFamilyId(tokenId);
         loginToken.setUser(userRepository.findByUuid(userPrincipal.getUserId())
                 .orElseThrow(() -> ServiceException.of(DefaultExceptionReasonCodes.UNAUTHORIZED, String.format("User not found with ID: %s.", userPrincipal.getUserId()))));
-        loginToken.setToken(token);
+        loginToken.setTokenHash(HashUtils.sha256Hex(token));
 
         loginTokenRepository.save(loginToken);
 
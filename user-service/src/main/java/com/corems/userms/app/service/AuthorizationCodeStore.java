@@ -0,0 +1,13 @@
+package com.corems.userms.app.service;
+
+import com.corems.userms.app.model.AuthorizationCode;
+
+import java.util.Optional;
+
+public interface AuthorizationCodeStore {
+
+    void save(AuthorizationCode authorizationCode);
+
+    // Atomically marks the code as redeemed; a second call for the same code returns empty
+    Optional<AuthorizationCode> consume(String code);
+}
@@ -0,0 +1,118 @@
+package com.corems.userms.app.service;
+
+import com.corems.userms.app.repository.ActionTokenRepository;
+import com.corems.userms.app.repository.AuthorizationCodeRepository;
+import com.corems.userms.app.repository.LoginTokenRepository;
+import com.corems.userms.app.repository.NotificationOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.function.IntSupplier;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.purge.enabled", havingValue = "true", matchIfMissing = true)
+public class ExpiredTokenPurgeService {
+
+    private static final String LOCK_NAME = "expired-token-purge";
+    private static final String METRIC_PREFIX = "user.purge";
+
+    private final ActionTokenRepository actionTokenRepository;
+    private final AuthorizationCodeRepository authorizationCodeRepository;
+    private final LoginTokenRepository loginTokenRepository;
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final SchedulerLockService schedulerLockService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.purge.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.purge.max-batches-per-table:100}")
+    private int maxBatchesPerTable;
+
+    @Value("${app.purge.batch-pause:PT0.2S}")
+    private Duration batchPause;
+
+    @Value("${app.purge.lock-lease:PT10M}")
+    private Duration lockLease;
+
+    @Value("${app.purge.failed-notification-retention:P1D}")
+    private Duration failedNotificationRetention;
+
+    @Value("${spring.security.jwt.refreshExpirationTimeInMinutes:1440}")
+    private long refreshExpirationMinutes;
+
+    @Scheduled(fixedDelayString = "${app.purge.interval:PT10M}", initialDelayString = "${app.purge.initial-delay:PT1M}")
+    public void purgeExpired() {
+        if (!schedulerLockService.tryAcquire(LOCK_NAME, lockLease)) {
+            log.debug("Skipping token purge, another instance holds the lock");
+            return;
+        }
+
+        try {
+            purgeTable("action_tokens",
+                    () -> actionTokenRepository.deleteExpiredBatch(LocalDateTime.now(), batchSize));
+            purgeTable("authorization_codes",
+                    () -> authorizationCodeRepository.deleteUsedOrExpiredBatch(Instant.now(), batchSize));
+            purgeTable("login_token",
+                    () -> loginTokenRepository.deleteCreatedBeforeBatch(
+                            Instant.now().minus(refreshExpirationMinutes, ChronoUnit.MINUTES), batchSize));
+            purgeTable("notification_outbox",
+                    () -> notificationOutboxRepository.deleteFailedBatch(
+                            Instant.now().minus(failedNotificationRetention), batchSize));
+        } finally {
+            schedulerLockService.release(LOCK_NAME);
+        }
+    }
+
+    private void purgeTable(String table, IntSupplier deleteBatch) {
+        Counter deletedCounter = Counter.builder(METRIC_PREFIX + ".deleted")
+                .tag("table", table)
+                .register(meterRegistry);
+        Timer timer = Timer.builder(METRIC_PREFIX + ".duration")
+                .tag("table", table)
+                .register(meterRegistry);
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        int total = 0;
+        try {
+            for (int batch = 0; batch < maxBatchesPerTable; batch++) {
+                // Each batch commits on its own so row locks and WAL stay small
+                Integer deleted = transactionTemplate.execute(status -> deleteBatch.getAsInt());
+                int count = deleted != null ? deleted : 0;
+                total += count;
+                deletedCounter.increment(count);
+
+                if (count < batchSize) {
+                    break;
+                }
+                Thread.sleep(batchPause.toMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Purge of {} interrupted after {} rows", table, total);
+        } catch (RuntimeException e) {
+            log.error("Purge of {} failed after {} rows", table, total, e);
+        } finally {
+            sample.stop(timer);
+        }
+
+        if (total > 0) {
+            log.info("Purged {} rows from {}", total, table);
+        }
+    }
+}
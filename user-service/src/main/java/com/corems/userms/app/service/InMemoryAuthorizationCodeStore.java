@@ -0,0 +1,44 @@
+package com.corems.userms.app.service;
+
+import com.corems.userms.app.model.AuthorizationCode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+// Codes live only on the instance that issued them, so this needs a single replica or sticky sessions
+@Service
+@ConditionalOnProperty(name = "app.oauth2.authorization-code-store", havingValue = "memory")
+public class InMemoryAuthorizationCodeStore implements AuthorizationCodeStore {
+
+    private final Cache<String, AuthorizationCode> codes;
+
+    public InMemoryAuthorizationCodeStore(MeterRegistry meterRegistry,
+                                          @Value("${app.oauth2.authorization-code-ttl-seconds:600}") long ttlSeconds,
+                                          @Value("${app.oauth2.authorization-code-max-size:100000}") long maxSize) {
+        this.codes = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, codes, "user.authorization-code");
+    }
+
+    @Override
+    public void save(AuthorizationCode authorizationCode) {
+        codes.put(authorizationCode.code(), authorizationCode);
+    }
+
+    @Override
+    public Optional<AuthorizationCode> consume(String code) {
+        return Optional.ofNullable(codes.asMap().remove(code))
+                .filter(authorizationCode -> !authorizationCode.isExpired());
+    }
+}
@@ -0,0 +1,70 @@
+package com.corems.userms.app.service;
+
+import com.corems.userms.app.entity.AuthorizationCodeEntity;
+import com.corems.userms.app.entity.UserEntity;
+import com.corems.userms.app.model.AuthorizationCode;
+import com.corems.userms.app.model.exception.AuthExceptionReasonCodes;
+import com.corems.userms.app.model.exception.AuthServiceException;
+import com.corems.userms.app.repository.AuthorizationCodeRepository;
+import com.corems.userms.app.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.oauth2.authorization-code-store", havingValue = "jpa", matchIfMissing = true)
+public class JpaAuthorizationCodeStore implements AuthorizationCodeStore {
+
+    private final AuthorizationCodeRepository authorizationCodeRepository;
+    private final UserRepository userRepository;
+
+    @Override
+    @Transactional
+    public void save(AuthorizationCode authorizationCode) {
+        UserEntity user = userRepository.findByUuid(authorizationCode.userId())
+                .orElseThrow(() -> new AuthServiceException(
+                    AuthExceptionReasonCodes.USER_NOT_FOUND,
+                    "User not found"
+                ));
+
+        AuthorizationCodeEntity authCode = new AuthorizationCodeEntity();
+        authCode.setCode(authorizationCode.code());
+        authCode.setUser(user);
+        authCode.setClientId(authorizationCode.clientId());
+        authCode.setRedirectUri(authorizationCode.redirectUri());
+        authCode.setScope(authorizationCode.scope());
+        authCode.setCodeChallenge(authorizationCode.codeChallenge());
+        authCode.setCodeChallengeMethod(authorizationCode.codeChallengeMethod());
+        authCode.setNonce(authorizationCode.nonce());
+        authCode.setExpiresAt(authorizationCode.expiresAt());
+        authCode.setIsUsed(false);
+
+        authorizationCodeRepository.save(authCode);
+    }
+
+    @Override
+    @Transactional
+    public Optional<AuthorizationCode> consume(String code) {
+        if (authorizationCodeRepository.markUsed(code, Instant.now()) == 0) {
+            return Optional.empty();
+        }
+
+        return authorizationCodeRepository.findByCode(code)
+                .map(authCode -> new AuthorizationCode(
+                        authCode.getCode(),
+                        authCode.getUser().getUuid(),
+                        authCode.getClientId(),
+                        authCode.getRedirectUri(),
+                        authCode.getScope(),
+                        authCode.getCodeChallenge(),
+                        authCode.getCodeChallengeMethod(),
+                        authCode.getNonce(),
+                        authCode.getExpiresAt()))
+                .filter(authorizationCode -> !authorizationCode.isExpired());
+    }
+}
@@ -0,0 +1,49 @@
+package com.corems.userms.app.service;
+
+import com.corems.userms.app.entity.UserEntity;
+import com.corems.userms.app.repository.UserSearchPredicates;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+// Portable fallback (H2 in tests); runs on PostgreSQL too but without the native query shape
+@Service
+@ConditionalOnProperty(name = "app.users.search-backend", havingValue = "jpa", matchIfMissing = true)
+public class JpaUserSearchBackend implements UserSearchBackend {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<UserEntity> search(String term, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<UserEntity> query = cb.createQuery(UserEntity.class);
+        Root<UserEntity> user = query.from(UserEntity.class);
+        query.select(user)
+                .where(UserSearchPredicates.matches(cb, user, term))
+                .orderBy(cb.desc(user.get("createdAt")), cb.desc(user.get("id")));
+
+        List<UserEntity> content = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        CriteriaQuery<Long> countQuery = cb.createQuery(Long.class);
+        Root<UserEntity> countRoot = countQuery.from(UserEntity.class);
+        countQuery.select(cb.count(countRoot))
+                .where(UserSearchPredicates.matches(cb, countRoot, term));
+        long total = entityManager.createQuery(countQuery).getSingleResult();
+
+        return new PageImpl<>(content, pageable, total);
+    }
+}
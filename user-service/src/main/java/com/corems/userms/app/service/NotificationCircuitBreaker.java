@@ -0,0 +1,285 @@
+package com.corems.userms.app.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// Guards calls to communication-ms. The breaker opens when the failure rate over the last window-size calls
+// crosses the threshold, lets a single probe through after open-duration, and closes again when it succeeds.
+// Each call gets a deadline of p99 latency * multiplier, clamped to [min-deadline, max-deadline].
+@Slf4j
+@Component
+public class NotificationCircuitBreaker {
+
+    public enum State { CLOSED, HALF_OPEN, OPEN }
+
+    private static final String METRIC_PREFIX = "user.notification.circuit";
+    private static final int MIN_LATENCY_SAMPLES = 20;
+    private static final int DEADLINE_RECOMPUTE_EVERY = 20;
+
+    private final ScheduledExecutorService deadlineTimer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "notification-deadline");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final Duration openDuration;
+    private final Duration minDeadline;
+    private final Duration maxDeadline;
+    private final double deadlineMultiplier;
+
+    private final boolean[] outcomes;
+    private int outcomeIndex;
+    private int recordedCalls;
+    private int failedCalls;
+
+    private final long[] latencies;
+    private int latencyIndex;
+    private int latencySamples;
+    private int samplesSinceRecompute;
+
+    private State state = State.CLOSED;
+    private Instant openedAt;
+    private boolean probeInFlight;
+    private volatile Duration deadline;
+
+    @Autowired
+    public NotificationCircuitBreaker(MeterRegistry meterRegistry,
+                                      @Value("${app.notifications.circuit-breaker.window-size:20}") int windowSize,
+                                      @Value("${app.notifications.circuit-breaker.minimum-calls:10}") int minimumCalls,
+                                      @Value("${app.notifications.circuit-breaker.failure-rate-threshold:0.5}") double failureRateThreshold,
+                                      @Value("${app.notifications.circuit-breaker.open-duration:PT30S}") Duration openDuration,
+                                      @Value("${app.notifications.circuit-breaker.latency-samples:200}") int latencySamples,
+                                      @Value("${app.notifications.circuit-breaker.initial-deadline:PT5S}") Duration initialDeadline,
+                                      @Value("${app.notifications.circuit-breaker.min-deadline:PT1S}") Duration minDeadline,
+                                      @Value("${app.notifications.circuit-breaker.max-deadline:PT10S}") Duration maxDeadline,
+                                      @Value("${app.notifications.circuit-breaker.deadline-multiplier:2.0}") double deadlineMultiplier) {
+        this(meterRegistry, Clock.systemUTC(), windowSize, minimumCalls, failureRateThreshold, openDuration,
+                latencySamples, initialDeadline, minDeadline, maxDeadline, deadlineMultiplier);
+    }
+
+    NotificationCircuitBreaker(MeterRegistry meterRegistry, Clock clock, int windowSize, int minimumCalls,
+                               double failureRateThreshold, Duration openDuration, int latencySamples,
+                               Duration initialDeadline, Duration minDeadline, Duration maxDeadline,
+                               double deadlineMultiplier) {
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.outcomes = new boolean[windowSize];
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDuration = openDuration;
+        this.latencies = new long[latencySamples];
+        this.minDeadline = minDeadline;
+        this.maxDeadline = maxDeadline;
+        this.deadlineMultiplier = deadlineMultiplier;
+        this.deadline = initialDeadline;
+
+        Gauge.builder(METRIC_PREFIX + ".state", this, breaker -> breaker.getState().ordinal())
+                .description("0 = closed, 1 = half-open, 2 = open")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".deadline", this, breaker -> breaker.getDeadline().toMillis())
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    public <T> T call(Supplier<T> action) {
+        if (!tryAcquirePermission()) {
+            Counter.builder(METRIC_PREFIX + ".rejected").register(meterRegistry).increment();
+            throw new OpenException();
+        }
+
+        // The call runs on the caller's thread, so executor and bulkhead permits stay held until it really
+        // returns. At the deadline the thread is interrupted, which aborts blocking socket I/O on a virtual thread.
+        Duration callDeadline = deadline;
+        long startedAt = System.nanoTime();
+        Watchdog watchdog = new Watchdog(Thread.currentThread());
+        ScheduledFuture<?> timer = deadlineTimer.schedule(watchdog::fire, callDeadline.toNanos(), TimeUnit.NANOSECONDS);
+        try {
+            T result = action.get();
+            if (watchdog.finish()) {
+                // Delivered late: counts against the breaker, but the caller must not send it again
+                onFailure();
+            } else {
+                onSuccess(System.nanoTime() - startedAt);
+            }
+            return result;
+        } catch (RuntimeException e) {
+            onFailure();
+            if (watchdog.finish()) {
+                throw new IllegalStateException("communication-ms call exceeded deadline of " + callDeadline.toMillis() + " ms", e);
+            }
+            throw e;
+        } finally {
+            timer.cancel(false);
+            watchdog.finish();
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public Duration getDeadline() {
+        return deadline;
+    }
+
+    public synchronized double getFailureRate() {
+        return recordedCalls == 0 ? 0 : (double) failedCalls / recordedCalls;
+    }
+
+    private synchronized boolean tryAcquirePermission() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (clock.instant().isBefore(openedAt.plus(openDuration))) {
+                    return false;
+                }
+                transitionTo(State.HALF_OPEN);
+                probeInFlight = true;
+                return true;
+            default:
+                if (probeInFlight) {
+                    return false;
+                }
+                probeInFlight = true;
+                return true;
+        }
+    }
+
+    private synchronized void onSuccess(long latencyNanos) {
+        recordLatency(latencyNanos);
+        if (state == State.HALF_OPEN) {
+            probeInFlight = false;
+            resetWindow();
+            transitionTo(State.CLOSED);
+            return;
+        }
+        recordOutcome(true);
+    }
+
+    private synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            probeInFlight = false;
+            open();
+            return;
+        }
+        recordOutcome(false);
+        if (state == State.CLOSED && recordedCalls >= minimumCalls && getFailureRate() >= failureRateThreshold) {
+            open();
+        }
+    }
+
+    private void open() {
+        openedAt = clock.instant();
+        transitionTo(State.OPEN);
+    }
+
+    private void transitionTo(State newState) {
+        if (state == newState) {
+            return;
+        }
+        log.warn("Notification circuit breaker {} -> {}", state, newState);
+        state = newState;
+        Counter.builder(METRIC_PREFIX + ".transitions")
+                .tag("to", newState.name())
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private void recordOutcome(boolean success) {
+        if (recordedCalls == outcomes.length) {
+            if (!outcomes[outcomeIndex]) {
+                failedCalls--;
+            }
+        } else {
+            recordedCalls++;
+        }
+        outcomes[outcomeIndex] = success;
+        if (!success) {
+            failedCalls++;
+        }
+        outcomeIndex = (outcomeIndex + 1) % outcomes.length;
+    }
+
+    private void resetWindow() {
+        Arrays.fill(outcomes, false);
+        outcomeIndex = 0;
+        recordedCalls = 0;
+        failedCalls = 0;
+    }
+
+    private void recordLatency(long latencyNanos) {
+        latencies[latencyIndex] = latencyNanos;
+        latencyIndex = (latencyIndex + 1) % latencies.length;
+        latencySamples = Math.min(latencySamples + 1, latencies.length);
+
+        if (latencySamples >= MIN_LATENCY_SAMPLES && ++samplesSinceRecompute >= DEADLINE_RECOMPUTE_EVERY) {
+            samplesSinceRecompute = 0;
+            long[] sorted = Arrays.copyOf(latencies, latencySamples);
+            Arrays.sort(sorted);
+            long p99 = sorted[(int) Math.ceil(sorted.length * 0.99) - 1];
+            long target = (long) (p99 * deadlineMultiplier);
+            deadline = Duration.ofNanos(Math.clamp(target, minDeadline.toNanos(), maxDeadline.toNanos()));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        deadlineTimer.shutdownNow();
+    }
+
+    // Interrupts the calling thread at the deadline unless the call has finished first
+    private static final class Watchdog {
+        private final Thread thread;
+        private boolean finished;
+        private boolean fired;
+
+        Watchdog(Thread thread) {
+            this.thread = thread;
+        }
+
+        synchronized void fire() {
+            if (!finished) {
+                fired = true;
+                thread.interrupt();
+            }
+        }
+
+        // Called on the calling thread; returns whether the deadline fired and clears the interrupt it left
+        synchronized boolean finish() {
+            if (!finished) {
+                finished = true;
+                if (fired) {
+                    Thread.interrupted();
+                }
+            }
+            return fired;
+        }
+    }
+
+    public static class OpenException extends RuntimeException {
+        public OpenException() {
+            super("Notification circuit breaker is open");
+        }
+    }
+}
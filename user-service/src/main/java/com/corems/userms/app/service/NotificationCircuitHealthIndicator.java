@@ -0,0 +1,24 @@
+package com.corems.userms.app.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+// Reported as UP with details even when open: notifications wait in the outbox, so an unhealthy
+// communication-ms must not take user-ms out of rotation
+@Component("notificationCircuit")
+@RequiredArgsConstructor
+public class NotificationCircuitHealthIndicator implements HealthIndicator {
+
+    private final NotificationCircuitBreaker notificationCircuitBreaker;
+
+    @Override
+    public Health health() {
+        return Health.up()
+                .withDetail("state", notificationCircuitBreaker.getState().name())
+                .withDetail("failureRate", notificationCircuitBreaker.getFailureRate())
+                .withDetail("deadlineMs", notificationCircuitBreaker.getDeadline().toMillis())
+                .build();
+    }
+}
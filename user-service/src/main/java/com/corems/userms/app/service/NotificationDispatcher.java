@@ -0,0 +1,225 @@
+package com.corems.userms.app.service;
+
+import com.corems.communicationms.api.model.EmailNotificationRequest;
+import com.corems.communicationms.api.model.SmsNotificationRequest;
+import com.corems.communicationms.client.NotificationsApi;
+import com.corems.userms.app.entity.NotificationOutboxEntity;
+import com.corems.userms.app.model.enums.NotificationChannel;
+import com.corems.userms.app.model.enums.NotificationStatus;
+import com.corems.userms.app.repository.NotificationOutboxRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "app.notifications.outbox.dispatcher-enabled", havingValue = "true", matchIfMissing = true)
+public class NotificationDispatcher {
+
+    private static final String LOCK_NAME = "notification-outbox";
+    private static final String METRIC_PREFIX = "user.notification.outbox";
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final NotificationsApi notificationsApi;
+    private final NotificationExecutor notificationExecutor;
+    private final NotificationCircuitBreaker notificationCircuitBreaker;
+    private final SchedulerLockService schedulerLockService;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final AtomicLong queueDepth = new AtomicLong();
+
+    @Value("${app.notifications.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${app.notifications.outbox.max-batches-per-run:50}")
+    private int maxBatchesPerRun;
+
+    @Value("${app.notifications.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${app.notifications.outbox.initial-backoff:PT5S}")
+    private Duration initialBackoff;
+
+    @Value("${app.notifications.outbox.max-backoff:PT1H}")
+    private Duration maxBackoff;
+
+    // Must stay below lock-lease with room for one more batch: rows are not claimed, so a run that outlives
+    // its lease lets another replica send the same rows
+    @Value("${app.notifications.outbox.max-run-time:PT3M}")
+    private Duration maxRunTime;
+
+    @Value("${app.notifications.outbox.lock-lease:PT5M}")
+    private Duration lockLease;
+
+    public NotificationDispatcher(NotificationOutboxRepository notificationOutboxRepository,
+                                  NotificationsApi notificationsApi,
+                                  NotificationExecutor notificationExecutor,
+                                  NotificationCircuitBreaker notificationCircuitBreaker,
+                                  SchedulerLockService schedulerLockService,
+                                  PlatformTransactionManager transactionManager,
+                                  ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry) {
+        this.notificationOutboxRepository = notificationOutboxRepository;
+        this.notificationsApi = notificationsApi;
+        this.notificationExecutor = notificationExecutor;
+        this.notificationCircuitBreaker = notificationCircuitBreaker;
+        this.schedulerLockService = schedulerLockService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder(METRIC_PREFIX + ".depth", queueDepth, AtomicLong::get)
+                .description("Pending notifications in the outbox")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.notifications.outbox.poll-interval:PT1S}")
+    public void dispatch() {
+        if (!schedulerLockService.tryAcquire(LOCK_NAME, lockLease)) {
+            return;
+        }
+
+        long deadlineNanos = System.nanoTime() + maxRunTime.toNanos();
+        try {
+            for (int batch = 0; batch < maxBatchesPerRun && System.nanoTime() < deadlineNanos; batch++) {
+                List<NotificationOutboxEntity> due = notificationOutboxRepository
+                        .findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                                NotificationStatus.PENDING, Instant.now(), Limit.of(batchSize));
+                if (due.isEmpty()) {
+                    break;
+                }
+                if (!deliverBatch(due) || due.size() < batchSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Notification dispatch failed", e);
+        } finally {
+            schedulerLockService.release(LOCK_NAME);
+            queueDepth.set(notificationOutboxRepository.countByStatus(NotificationStatus.PENDING));
+        }
+    }
+
+    // Returns false when the executor or the circuit breaker shed part of the batch; those rows stay due
+    private boolean deliverBatch(List<NotificationOutboxEntity> batch) {
+        ConcurrentLinkedQueue<Long> delivered = new ConcurrentLinkedQueue<>();
+        ConcurrentLinkedQueue<NotificationOutboxEntity> failed = new ConcurrentLinkedQueue<>();
+        List<CompletableFuture<Void>> deliveries = new ArrayList<>();
+        AtomicBoolean accepted = new AtomicBoolean(true);
+
+        for (NotificationOutboxEntity entry : batch) {
+            try {
+                deliveries.add(notificationExecutor.submit(entry.getChannel(), () -> {
+                    try {
+                        deliver(entry);
+                        delivered.add(entry.getId());
+                        recordDelivered(entry);
+                    } catch (NotificationCircuitBreaker.OpenException e) {
+                        // Not an attempt: the row stays due and is retried once the breaker lets calls through
+                        accepted.set(false);
+                    } catch (RuntimeException e) {
+                        scheduleRetry(entry, e);
+                        failed.add(entry);
+                    }
+                }));
+            } catch (RejectedExecutionException e) {
+                log.warn("Notification executor saturated, deferring {} notifications", batch.size() - deliveries.size());
+                accepted.set(false);
+                break;
+            }
+        }
+
+        CompletableFuture.allOf(deliveries.toArray(CompletableFuture[]::new)).exceptionally(e -> null).join();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            notificationOutboxRepository.deleteAllByIdInBatch(new ArrayList<>(delivered));
+            notificationOutboxRepository.saveAll(failed);
+        });
+        return accepted.get();
+    }
+
+    private void deliver(NotificationOutboxEntity entry) {
+        try {
+            if (entry.getChannel() == NotificationChannel.EMAIL) {
+                EmailNotificationRequest request = objectMapper.readValue(entry.getPayload(), EmailNotificationRequest.class);
+                notificationCircuitBreaker.call(() -> notificationsApi.sendEmailNotification(request));
+            } else {
+                SmsNotificationRequest request = objectMapper.readValue(entry.getPayload(), SmsNotificationRequest.class);
+                notificationCircuitBreaker.call(() -> notificationsApi.sendSmsNotification(request));
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Unreadable notification payload", e);
+        }
+    }
+
+    private void recordDelivered(NotificationOutboxEntity entry) {
+        String channel = entry.getChannel().name();
+        Counter.builder(METRIC_PREFIX + ".delivered")
+                .tag("channel", channel)
+                .register(meterRegistry)
+                .increment();
+        Timer.builder(METRIC_PREFIX + ".delivery.latency")
+                .description("Time from enqueue to successful delivery")
+                .tag("channel", channel)
+                .register(meterRegistry)
+                .record(Duration.between(entry.getCreatedAt(), Instant.now()));
+    }
+
+    // Exponential backoff with jitter; after maxAttempts the entry is kept as FAILED for inspection
+    private void scheduleRetry(NotificationOutboxEntity entry, RuntimeException error) {
+        int attempts = entry.getAttempts() + 1;
+        entry.setAttempts(attempts);
+        entry.setLastError(truncate(error.getMessage()));
+
+        String outcome;
+        if (attempts >= maxAttempts) {
+            entry.setStatus(NotificationStatus.FAILED);
+            outcome = "failed";
+            log.error("Giving up on notification {} after {} attempts", entry.getId(), attempts, error);
+        } else {
+            long backoffMillis = Math.min(maxBackoff.toMillis(), initialBackoff.toMillis() << Math.min(attempts - 1, 20));
+            long jitterMillis = ThreadLocalRandom.current().nextLong(backoffMillis / 5 + 1);
+            entry.setNextAttemptAt(Instant.now().plusMillis(backoffMillis + jitterMillis));
+            outcome = "retry";
+            log.warn("Notification {} failed (attempt {}), retrying at {}: {}",
+                    entry.getId(), attempts, entry.getNextAttemptAt(), error.getMessage());
+        }
+
+        Counter.builder(METRIC_PREFIX + ".failures")
+                .tag("channel", entry.getChannel().name())
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,118 @@
+package com.corems.userms.app.service;
+
+import com.corems.userms.app.model.enums.NotificationChannel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Runs deliveries to communication-ms on virtual threads. A global cap and a per-channel bulkhead bound the
+// calls in flight, and the number of accepted tasks is bounded so a slow downstream sheds work instead of
+// queueing it in memory; rejected notifications simply stay in the outbox.
+@Slf4j
+@Component
+public class NotificationExecutor {
+
+    private static final String METRIC_PREFIX = "user.notification.executor";
+
+    private final ExecutorService executor;
+    private final MeterRegistry meterRegistry;
+    private final Semaphore globalPermits;
+    private final Map<NotificationChannel, Semaphore> channelPermits = new EnumMap<>(NotificationChannel.class);
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final int queueCapacity;
+
+    public NotificationExecutor(MeterRegistry meterRegistry,
+                                @Value("${app.notifications.executor.max-concurrency:16}") int maxConcurrency,
+                                @Value("${app.notifications.executor.email-max-concurrency:12}") int emailMaxConcurrency,
+                                @Value("${app.notifications.executor.sms-max-concurrency:4}") int smsMaxConcurrency,
+                                @Value("${app.notifications.executor.queue-capacity:200}") int queueCapacity) {
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("notification-", 0).factory());
+        this.meterRegistry = meterRegistry;
+        this.globalPermits = new Semaphore(maxConcurrency);
+        this.channelPermits.put(NotificationChannel.EMAIL, new Semaphore(emailMaxConcurrency));
+        this.channelPermits.put(NotificationChannel.SMS, new Semaphore(smsMaxConcurrency));
+        this.queueCapacity = queueCapacity;
+
+        Gauge.builder(METRIC_PREFIX + ".queue.depth", () -> pending.get() - active.get()).register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".active", active, AtomicInteger::get).register(meterRegistry);
+    }
+
+    public CompletableFuture<Void> submit(NotificationChannel channel, Runnable delivery) {
+        if (pending.incrementAndGet() > queueCapacity) {
+            pending.decrementAndGet();
+            Counter.builder(METRIC_PREFIX + ".rejected")
+                    .tag("channel", channel.name())
+                    .register(meterRegistry)
+                    .increment();
+            throw new RejectedExecutionException("Notification executor is saturated");
+        }
+
+        long submittedAt = System.nanoTime();
+        try {
+            return CompletableFuture.runAsync(() -> run(channel, delivery, submittedAt), executor);
+        } catch (RejectedExecutionException e) {
+            pending.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private void run(NotificationChannel channel, Runnable delivery, long submittedAt) {
+        Semaphore bulkhead = channelPermits.get(channel);
+        boolean bulkheadAcquired = false;
+        boolean globalAcquired = false;
+        try {
+            // Always bulkhead first, then global, so tasks never wait on each other in opposite order
+            bulkhead.acquire();
+            bulkheadAcquired = true;
+            globalPermits.acquire();
+            globalAcquired = true;
+
+            Timer.builder(METRIC_PREFIX + ".queue.wait")
+                    .tag("channel", channel.name())
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+
+            active.incrementAndGet();
+            try {
+                Timer.builder(METRIC_PREFIX + ".duration")
+                        .tag("channel", channel.name())
+                        .register(meterRegistry)
+                        .record(delivery);
+            } finally {
+                active.decrementAndGet();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a notification slot", e);
+        } finally {
+            if (globalAcquired) {
+                globalPermits.release();
+            }
+            if (bulkheadAcquired) {
+                bulkhead.release();
+            }
+            pending.decrementAndGet();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,50 @@
+package com.corems.userms.app.service;
+
+import com.corems.communicationms.api.model.EmailNotificationRequest;
+import com.corems.communicationms.api.model.SmsNotificationRequest;
+import com.corems.userms.app.entity.NotificationOutboxEntity;
+import com.corems.userms.app.model.enums.NotificationChannel;
+import com.corems.userms.app.repository.NotificationOutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+// Notifications are stored in the caller's transaction and delivered later by NotificationDispatcher,
+// so a rolled back signup sends nothing and a committed one is never lost
+@Service
+@RequiredArgsConstructor
+public class NotificationOutboxService {
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional
+    public void enqueueEmail(EmailNotificationRequest request) {
+        enqueue(NotificationChannel.EMAIL, request);
+    }
+
+    @Transactional
+    public void enqueueSms(SmsNotificationRequest request) {
+        enqueue(NotificationChannel.SMS, request);
+    }
+
+    private void enqueue(NotificationChannel channel, Object request) {
+        NotificationOutboxEntity entry = new NotificationOutboxEntity();
+        entry.setChannel(channel);
+        entry.setPayload(toJson(request));
+        entry.setNextAttemptAt(Instant.now());
+        notificationOutboxRepository.save(entry);
+    }
+
+    private String toJson(Object request) {
+        try {
+            return objectMapper.writeValueAsString(request);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize notification request", e);
+        }
+    }
+}
@@ -3,12 +3,12 @@ package com.corems.userms.app.service;
 import com.corems.communicationms.api.model.EmailNotificationRequest;
 import com.corems.communicationms.api.model.SmsNotificationRequest;
 import com.corems.communicationms.api.model.TemplateRequest;
-import com.corems.communicationms.client.NotificationsApi;
 import com.corems.userms.app.entity.UserEntity;
+import com.corems.userms.app.model.enums.UserActionType;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 import java.util.Map;
@@ -17,7 +17,8 @@ import java.util.Map;
 @Service
 @RequiredArgsConstructor
 public class NotificationService {
-    private final NotificationsApi notificationsApi;
+    private final NotificationOutboxService notificationOutboxService;
+    private final NotificationTemplates notificationTemplates;
     
     @Value("${app.frontend.base-url}")
     private String frontendBaseUrl;
@@ -39,165 +40,140 @@ public class NotificationService {
     
     private static final String EMAIL_VERIFICATION_PATH = "/verify-email";
     private static final String PASSWORD_RESET_PATH = "/reset-password";
+    private static final NotificationTemplate EMAIL_VERIFICATION_URL = NotificationTemplate.compile(
+            "{{baseUrl}}" + EMAIL_VERIFICATION_PATH + "?email={{email}}&token={{token}}", "baseUrl", "email", "token");
+    private static final NotificationTemplate PASSWORD_RESET_URL = NotificationTemplate.compile(
+            "{{baseUrl}}" + PASSWORD_RESET_PATH + "?email={{email}}&token={{token}}", "baseUrl", "email", "token");
+
+    private NotificationTemplate welcomeEmailText;
+    private NotificationTemplate welcomeSmsText;
+    private NotificationTemplate emailVerificationText;
+    private NotificationTemplate smsVerificationText;
+    private NotificationTemplate passwordResetText;
+
+    @PostConstruct
+    void compileTemplates() {
+        welcomeEmailText = notificationTemplates.compile("welcome_email", "firstName");
+        welcomeSmsText = notificationTemplates.compile("welcome_sms", "firstName");
+        emailVerificationText = notificationTemplates.compile(UserActionType.EMAIL_VERIFICATION, "firstName", "baseUrl", "email", "token");
+        smsVerificationText = notificationTemplates.compile(UserActionType.SMS_VERIFICATION, "firstName", "code");
+        passwordResetText = notificationTemplates.compile(UserActionType.PASSWORD_RESET, "firstName", "baseUrl", "email", "token");
+    }
 
-    @Async
     public void sendWelcomeEmail(UserEntity user) {
-        try {
-            EmailNotificationRequest request = new EmailNotificationRequest();
-            request.setSubject("Welcome to CoreMS");
-            request.setRecipient(user.getEmail());
-            
-            if (!welcomeEmailTemplateId.isBlank()) {
-                TemplateRequest templateRequest = new TemplateRequest();
-                templateRequest.setTemplateId(welcomeEmailTemplateId);
-                templateRequest.setParams(Map.of(
-                    "firstName", user.getFirstName(),
-                    "lastName", user.getLastName(),
-                    "appUrl", frontendBaseUrl
-                ));
-                request.setTemplate(templateRequest);
-            } else {
-                request.setBody("Dear " + user.getFirstName() + ",\n\n" +
-                        "Welcome to CoreMS! We're excited to have you on board.\n\n" +
-                        "Best regards,\n" +
-                        "The CoreMS Team");
-            }
-
-            var res = notificationsApi.sendEmailNotification(request);
-
-            log.info("Welcome email sent to user: {}, result: {}", user.getUuid(), res);
-        } catch (Exception e) {
-            log.error("Failed to send welcome email to user: {}", user.getEmail(), e);
+        EmailNotificationRequest request = new EmailNotificationRequest();
+        request.setSubject("Welcome to CoreMS");
+        request.setRecipient(user.getEmail());
+        
+        if (!welcomeEmailTemplateId.isBlank()) {
+            TemplateRequest templateRequest = new TemplateRequest();
+            templateRequest.setTemplateId(welcomeEmailTemplateId);
+            templateRequest.setParams(Map.of(
+                "firstName", user.getFirstName(),
+                "lastName", user.getLastName(),
+                "appUrl", frontendBaseUrl
+            ));
+            request.setTemplate(templateRequest);
+        } else {
+            request.setBody(welcomeEmailText.render(user.getFirstName()));
         }
+
+        notificationOutboxService.enqueueEmail(request);
+
+        log.info("Welcome email queued for user: {}", user.getUuid());
     }
 
-    @Async
     public void sendWelcomeSms(UserEntity user) {
         if (user.getPhoneNumber() == null) {
             log.debug("No phone number for user: {}, skipping SMS", user.getUuid());
             return;
         }
 
-        try {
-            SmsNotificationRequest request = new SmsNotificationRequest();
-            request.setPhoneNumber(user.getPhoneNumber());
-            
-            if (!welcomeSmsTemplateId.isBlank()) {
-                TemplateRequest templateRequest = new TemplateRequest();
-                templateRequest.setTemplateId(welcomeSmsTemplateId);
-                templateRequest.setParams(Map.of(
-                    "firstName", user.getFirstName(),
-                    "lastName", user.getLastName(),
-                    "appUrl", frontendBaseUrl
-                ));
-                request.setTemplate(templateRequest);
-            } else {
-                request.setMessage("Welcome to CoreMS, " + user.getFirstName() + "!");
-            }
-
-            var res = notificationsApi.sendSmsNotification(request);
-
-            log.info("Welcome SMS sent to user: {}, result: {}", user.getUuid(), res);
-        } catch (Exception e) {
-            log.error("Failed to send welcome SMS to user: {}", user.getPhoneNumber(), e);
+        SmsNotificationRequest request = new SmsNotificationRequest();
+        request.setPhoneNumber(user.getPhoneNumber());
+        
+        if (!welcomeSmsTemplateId.isBlank()) {
+            TemplateRequest templateRequest = new TemplateRequest();
+            templateRequest.setTemplateId(welcomeSmsTemplateId);
+            templateRequest.setParams(Map.of(
+                "firstName", user.getFirstName(),
+                "lastName", user.getLastName(),
+                "appUrl", frontendBaseUrl
+            ));
+            request.setTemplate(templateRequest);
+        } else {
+            request.setMessage(welcomeSmsText.render(user.getFirstName()));
         }
+
+        notificationOutboxService.enqueueSms(request);
+
+        log.info("Welcome SMS queued for user: {}", user.getUuid());
     }
 
-    @Async
     public void sendEmailVerificationCode(String email, String firstName, String token) {
-        try {
-            String verificationUrl = frontendBaseUrl + EMAIL_VERIFICATION_PATH + "?email=" + email + "&token=" + token;
-            
-            EmailNotificationRequest request = new EmailNotificationRequest();
-            request.setSubject("Verify Your Email Address");
-            request.setRecipient(email);
-            
-            if (!emailVerificationTemplateId.isBlank()) {
-                TemplateRequest templateRequest = new TemplateRequest();
-                templateRequest.setTemplateId(emailVerificationTemplateId);
-                templateRequest.setParams(Map.of(
-                    "firstName", firstName,
-                    "verificationUrl", verificationUrl
-                ));
-                request.setTemplate(templateRequest);
-                request.setEmailType(EmailNotificationRequest.EmailTypeEnum.HTML);
-            } else {
-                request.setBody("Dear " + firstName + ",\n\n" +
-                        "Please verify your email address by clicking the link below:\n\n" +
-                        verificationUrl + "\n\n" +
-                        "This link will expire in 24 hours.\n\n" +
-                        "If you didn't create an account with us, please ignore this email.\n\n" +
-                        "Best regards,\n" +
-                        "The CoreMS Team");
-            }
-
-            var res = notificationsApi.sendEmailNotification(request);
-
-            log.info("Email verification sent to: {}, result: {}", email, res);
-        } catch (Exception e) {
-            log.error("Failed to send email verification to: {}", email, e);
+        EmailNotificationRequest request = new EmailNotificationRequest();
+        request.setSubject("Verify Your Email Address");
+        request.setRecipient(email);
+        
+        if (!emailVerificationTemplateId.isBlank()) {
+            TemplateRequest templateRequest = new TemplateRequest();
+            templateRequest.setTemplateId(emailVerificationTemplateId);
+            templateRequest.setParams(Map.of(
+                "firstName", firstName,
+                "verificationUrl", EMAIL_VERIFICATION_URL.render(frontendBaseUrl, email, token)
+            ));
+            request.setTemplate(templateRequest);
+            request.setEmailType(EmailNotificationRequest.EmailTypeEnum.HTML);
+        } else {
+            request.setBody(emailVerificationText.render(firstName, frontendBaseUrl, email, token));
         }
+
+        notificationOutboxService.enqueueEmail(request);
+
+        log.info("Email verification queued for: {}", email);
     }
 
-    @Async
     public void sendSmsVerificationCode(String phoneNumber, String firstName, String code) {
-        try {
-            SmsNotificationRequest request = new SmsNotificationRequest();
-            request.setPhoneNumber(phoneNumber);
-            
-            if (!verificationCodeTemplateId.isBlank()) {
-                TemplateRequest templateRequest = new TemplateRequest();
-                templateRequest.setTemplateId(verificationCodeTemplateId);
-                templateRequest.setParams(Map.of(
-                    "firstName", firstName,
-                    "code", code
-                ));
-                request.setTemplate(templateRequest);
-            } else {
-                request.setMessage("Hi " + firstName + "! Your CoreMS verification code is: " + code + ". Valid for 10 minutes.");
-            }
-
-            var res = notificationsApi.sendSmsNotification(request);
-
-            log.info("SMS verification sent to: {}, result: {}", phoneNumber, res);
-        } catch (Exception e) {
-            log.error("Failed to send SMS verification to: {}", phoneNumber, e);
+        SmsNotificationRequest request = new SmsNotificationRequest();
+        request.setPhoneNumber(phoneNumber);
+        
+        if (!verificationCodeTemplateId.isBlank()) {
+            TemplateRequest templateRequest = new TemplateRequest();
+            templateRequest.setTemplateId(verificationCodeTemplateId);
+            templateRequest.setParams(Map.of(
+                "firstName", firstName,
+                "code", code
+            ));
+            request.setTemplate(templateRequest);
+        } else {
+            request.setMessage(smsVerificationText.render(firstName, code));
         }
+
+        notificationOutboxService.enqueueSms(request);
+
+        log.info("SMS verification queued for: {}", phoneNumber);
     }
 
-    @Async
     public void sendPasswordResetEmail(UserEntity user, String resetToken) {
-        try {
-            String resetUrl = frontendBaseUrl + PASSWORD_RESET_PATH + "?email=" + user.getEmail() + "&token=" + resetToken;
-            
-            EmailNotificationRequest request = new EmailNotificationRequest();
-            request.setSubject("Password Reset Request");
-            request.setRecipient(user.getEmail());
-            
-            if (!passwordResetTemplateId.isBlank()) {
-                TemplateRequest templateRequest = new TemplateRequest();
-                templateRequest.setTemplateId(passwordResetTemplateId);
-                templateRequest.setParams(Map.of(
-                    "firstName", user.getFirstName(),
-                    "resetUrl", resetUrl
-                ));
-                request.setTemplate(templateRequest);
-                request.setEmailType(EmailNotificationRequest.EmailTypeEnum.HTML);
-            } else {
-                request.setBody("Dear " + user.getFirstName() + ",\n\n" +
-                        "You have requested to reset your password. Please click the link below to reset your password:\n\n" +
-                        resetUrl + "\n\n" +
-                        "This link will expire in 24 hours.\n\n" +
-                        "If you didn't request a password reset, please ignore this email and your password will remain unchanged.\n\n" +
-                        "Best regards,\n" +
-                        "The CoreMS Team");
-            }
-
-            var res = notificationsApi.sendEmailNotification(request);
-
-            log.info("Password reset email sent to user: {}, result: {}", user.getUuid(), res);
-        } catch (Exception e) {
-            log.error("Failed to send password reset email to: {}", user.getEmail(), e);
+        EmailNotificationRequest request = new EmailNotificationRequest();
+        request.setSubject("Password Reset Request");
+        request.setRecipient(user.getEmail());
+        
+        if (!passwordResetTemplateId.isBlank()) {
+            TemplateRequest templateRequest = new TemplateRequest();
+            templateRequest.setTemplateId(passwordResetTemplateId);
+            templateRequest.setParams(Map.of(
+                "firstName", user.getFirstName(),
+                "resetUrl", PASSWORD_RESET_URL.render(frontendBaseUrl, user.getEmail(), resetToken)
+            ));
+            request.setTemplate(templateRequest);
+            request.setEmailType(EmailNotificationRequest.EmailTypeEnum.HTML);
+        } else {
+            request.setBody(passwordResetText.render(user.getFirstName(), frontendBaseUrl, user.getEmail(), resetToken));
         }
+
+        notificationOutboxService.enqueueEmail(request);
+
+        log.info("Password reset email queued for user: {}", user.getUuid());
     }
 }
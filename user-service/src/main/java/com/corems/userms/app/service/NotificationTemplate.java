@@ -0,0 +1,73 @@
+package com.corems.userms.app.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Text with {{name}} placeholders, split once into literal segments and parameter slots. Values are passed
+// positionally in the order of the parameter names given to compile, so rendering needs no map or lookups.
+public final class NotificationTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    private final String[] literals;
+    private final int[] slots;
+    private final int parameterCount;
+    private final int estimatedLength;
+
+    private NotificationTemplate(String[] literals, int[] slots, int parameterCount) {
+        this.literals = literals;
+        this.slots = slots;
+        this.parameterCount = parameterCount;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.estimatedLength = length + slots.length * 32;
+    }
+
+    public static NotificationTemplate compile(String text, String... parameterNames) {
+        List<String> literals = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+
+        int position = 0;
+        int open;
+        while ((open = text.indexOf(OPEN, position)) >= 0) {
+            int close = text.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed placeholder at index " + open);
+            }
+            String name = text.substring(open + OPEN.length(), close).trim();
+            literals.add(text.substring(position, open));
+            slots.add(indexOf(parameterNames, name));
+            position = close + CLOSE.length();
+        }
+        literals.add(text.substring(position));
+
+        return new NotificationTemplate(
+                literals.toArray(String[]::new),
+                slots.stream().mapToInt(Integer::intValue).toArray(),
+                parameterNames.length);
+    }
+
+    public String render(Object... values) {
+        if (values.length != parameterCount) {
+            throw new IllegalArgumentException("Expected " + parameterCount + " values but got " + values.length);
+        }
+        StringBuilder out = new StringBuilder(estimatedLength);
+        for (int i = 0; i < slots.length; i++) {
+            out.append(literals[i]).append(values[slots[i]]);
+        }
+        out.append(literals[slots.length]);
+        return out.toString();
+    }
+
+    private static int indexOf(String[] parameterNames, String name) {
+        for (int i = 0; i < parameterNames.length; i++) {
+            if (parameterNames[i].equals(name)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Unknown template parameter: " + name);
+    }
+}
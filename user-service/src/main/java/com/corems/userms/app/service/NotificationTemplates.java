@@ -0,0 +1,46 @@
+package com.corems.userms.app.service;
+
+import com.corems.userms.app.model.enums.UserActionType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+// Loads fallback message texts from app.notifications.templates.location. A UserActionType maps to
+// <location>/<action_type>.txt, so a new action only needs a new file to get its own text.
+@Component
+public class NotificationTemplates {
+
+    private final ResourceLoader resourceLoader;
+    private final String location;
+
+    public NotificationTemplates(ResourceLoader resourceLoader,
+                                 @Value("${app.notifications.templates.location:classpath:notification-templates/}") String location) {
+        this.resourceLoader = resourceLoader;
+        this.location = location.endsWith("/") ? location : location + "/";
+    }
+
+    public NotificationTemplate compile(UserActionType actionType, String... parameterNames) {
+        return compile(actionType.name().toLowerCase(Locale.ROOT), parameterNames);
+    }
+
+    public NotificationTemplate compile(String name, String... parameterNames) {
+        return NotificationTemplate.compile(load(name), parameterNames);
+    }
+
+    private String load(String name) {
+        Resource resource = resourceLoader.getResource(location + name + ".txt");
+        try {
+            String text = resource.getContentAsString(StandardCharsets.UTF_8);
+            // Editors add a final newline that is not part of the message
+            return text.endsWith("\n") ? text.substring(0, text.length() - 1) : text;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot load notification template " + resource.getDescription(), e);
+        }
+    }
+}
@@ -3,16 +3,19 @@ package com.corems.userms.app.service;
 import com.corems.common.security.SecurityUtils;
 import com.corems.common.security.UserPrincipal;
 import com.corems.userms.api.model.OAuth2TokenResponse;
-import com.corems.userms.app.entity.AuthorizationCodeEntity;
 import com.corems.userms.app.entity.LoginTokenEntity;
 import com.corems.userms.app.entity.UserEntity;
+import com.corems.userms.app.model.AuthorizationCode;
 import com.corems.userms.app.model.exception.AuthExceptionReasonCodes;
 import com.corems.userms.app.model.exception.AuthServiceException;
-import com.corems.userms.app.repository.AuthorizationCodeRepository;
 import com.corems.userms.app.repository.LoginTokenRepository;
 import com.corems.userms.app.repository.UserRepository;
+import com.corems.userms.app.security.TokenClaimsVerifier;
+import com.corems.userms.app.util.HashUtils;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,6 +25,7 @@ import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.util.Base64;
+import java.util.Optional;
 import java.util.UUID;
 
 @Slf4j
@@ -31,9 +35,13 @@ public class OAuth2Service {
     
     private final UserRepository userRepository;
     private final LoginTokenRepository loginTokenRepository;
-    private final AuthorizationCodeRepository authorizationCodeRepository;
+    private final AuthorizationCodeStore authorizationCodeStore;
     private final PasswordEncoder passwordEncoder;
     private final TokenService tokenService;
+    private final TokenClaimsVerifier tokenClaimsVerifier;
+
+    @Value("${app.oauth2.authorization-code-ttl-seconds:600}")
+    private long authorizationCodeTtlSeconds;
 
     @Transactional
     public String handleAuthorize(
@@ -61,27 +69,19 @@ public class OAuth2Service {
         }
         
         UserPrincipal principal = SecurityUtils.getUserPrincipal();
-        UserEntity user = userRepository.findByUuid(principal.getUserId())
-                .orElseThrow(() -> new AuthServiceException(
-                    AuthExceptionReasonCodes.USER_NOT_FOUND,
-                    "User not found"
-                ));
-        
         String code = UUID.randomUUID().toString();
         
-        AuthorizationCodeEntity authCode = new AuthorizationCodeEntity();
-        authCode.setCode(code);
-        authCode.setUser(user);
-        authCode.setClientId(clientId);
-        authCode.setRedirectUri(redirectUri);
-        authCode.setScope(scope);
-        authCode.setCodeChallenge(codeChallenge);
-        authCode.setCodeChallengeMethod(codeChallengeMethod);
-        authCode.setNonce(nonce);
-        authCode.setExpiresAt(Instant.now().plusSeconds(600));
-        authCode.setIsUsed(false);
-        
-        authorizationCodeRepository.save(authCode);
+        authorizationCodeStore.save(new AuthorizationCode(
+                code,
+                principal.getUserId(),
+                clientId,
+                redirectUri,
+                scope,
+                codeChallenge,
+                codeChallengeMethod,
+                nonce,
+                Instant.now().plusSeconds(authorizationCodeTtlSeconds)
+        ));
         
         String redirectUrl = redirectUri + "?code=" + code;
         if (state != null) {
@@ -91,6 +91,7 @@ public class OAuth2Service {
         return redirectUrl;
     }
 
+    @Transactional
     public OAuth2TokenResponse handlePasswordGrant(String username, String password, String scope) {
         UserEntity user = userRepository
                 .findByEmail(username)
@@ -106,51 +107,45 @@ public class OAuth2Service {
             );
         }
 
+        if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+            user.setPassword(passwordEncoder.encode(password));
+            userRepository.save(user);
+            log.info("Re-hashed password for user {} with current hashing parameters", user.getUuid());
+        }
+
         return tokenService.generateTokenResponse(user, scope, null);
     }
 
-    @Transactional
+    // A consumed code stays consumed even when the checks below reject the request
+    @Transactional(noRollbackFor = AuthServiceException.class)
     public OAuth2TokenResponse handleAuthorizationCodeGrant(
             String code,
             String redirectUri,
             String codeVerifier,
             String clientId) {
         
-        AuthorizationCodeEntity authCode = authorizationCodeRepository.findByCode(code)
+        // Unknown, already used and expired codes are indistinguishable once consumed
+        AuthorizationCode authCode = authorizationCodeStore.consume(code)
                 .orElseThrow(() -> new AuthServiceException(
                     AuthExceptionReasonCodes.INVALID_REQUEST,
-                    "Invalid authorization code"
+                    "Invalid or expired authorization code"
                 ));
         
-        if (authCode.getIsUsed()) {
-            throw new AuthServiceException(
-                AuthExceptionReasonCodes.INVALID_REQUEST,
-                "Authorization code already used"
-            );
-        }
-        
-        if (authCode.getExpiresAt().isBefore(Instant.now())) {
-            throw new AuthServiceException(
-                AuthExceptionReasonCodes.INVALID_REQUEST,
-                "Authorization code expired"
-            );
-        }
-        
-        if (!authCode.getClientId().equals(clientId)) {
+        if (!authCode.clientId().equals(clientId)) {
             throw new AuthServiceException(
                 AuthExceptionReasonCodes.INVALID_REQUEST,
                 "client_id mismatch"
             );
         }
         
-        if (!authCode.getRedirectUri().equals(redirectUri)) {
+        if (!authCode.redirectUri().equals(redirectUri)) {
             throw new AuthServiceException(
                 AuthExceptionReasonCodes.INVALID_REQUEST,
                 "redirect_uri mismatch"
             );
         }
         
-        if (authCode.getCodeChallenge() != null) {
+        if (authCode.codeChallenge() != null) {
             if (codeVerifier == null) {
                 throw new AuthServiceException(
                     AuthExceptionReasonCodes.INVALID_REQUEST,
@@ -158,8 +153,8 @@ public class OAuth2Service {
                 );
             }
             
-            String computedChallenge = computeCodeChallenge(codeVerifier, authCode.getCodeChallengeMethod());
-            if (!computedChallenge.equals(authCode.getCodeChallenge())) {
+            String computedChallenge = computeCodeChallenge(codeVerifier, authCode.codeChallengeMethod());
+            if (!computedChallenge.equals(authCode.codeChallenge())) {
                 throw new AuthServiceException(
                     AuthExceptionReasonCodes.INVALID_REQUEST,
                     "Invalid code_verifier"
@@ -167,10 +162,13 @@ public class OAuth2Service {
             }
         }
         
-        authCode.setIsUsed(true);
-        authorizationCodeRepository.save(authCode);
+        UserEntity user = userRepository.findByUuid(authCode.userId())
+                .orElseThrow(() -> new AuthServiceException(
+                    AuthExceptionReasonCodes.USER_NOT_FOUND,
+                    "User not found"
+                ));
         
-        return tokenService.generateTokenResponse(authCode.getUser(), authCode.getScope(), authCode.getNonce());
+        return tokenService.generateTokenResponse(user, authCode.scope(), authCode.nonce());
     }
     
     private String computeCodeChallenge(String codeVerifier, String method) {
@@ -194,7 +192,8 @@ public class OAuth2Service {
         );
     }
 
-    @Transactional
+    // Family revocation must survive the INVALID_TOKEN error thrown right after it
+    @Transactional(noRollbackFor = AuthServiceException.class)
     public OAuth2TokenResponse handleRefreshTokenGrant(String refreshToken) {
         if (refreshToken == null) {
             throw new AuthServiceException(
@@ -203,15 +202,35 @@ public class OAuth2Service {
             );
         }
         
-        LoginTokenEntity loginToken = loginTokenRepository.findByToken(refreshToken)
+        Claims claims = tokenClaimsVerifier.verify(refreshToken)
             .orElseThrow(() -> new AuthServiceException(
                 AuthExceptionReasonCodes.INVALID_TOKEN,
                 "Invalid refresh token"
             ));
-        
+
+        Optional<LoginTokenEntity> loginTokenOpt = loginTokenRepository.findByTokenHash(HashUtils.sha256Hex(refreshToken));
+        if (loginTokenOpt.isEmpty()) {
+            // Validly signed but no longer stored: the token was already rotated, so treat it as stolen
+            revokeTokenFamily(claims.get(TokenService.CLAIM_FAMILY_ID, String.class));
+            throw new AuthServiceException(
+                AuthExceptionReasonCodes.INVALID_TOKEN,
+                "Invalid refresh token"
+            );
+        }
+
+        LoginTokenEntity loginToken = loginTokenOpt.get();
+        if (loginTokenRepository.deleteTokenById(loginToken.getId()) == 0) {
+            // A concurrent refresh consumed the same token first
+            revokeTokenFamily(loginToken.getFamilyId().toString());
+            throw new AuthServiceException(
+                AuthExceptionReasonCodes.INVALID_TOKEN,
+                "Invalid refresh token"
+            );
+        }
+
         UserEntity user = loginToken.getUser();
         
-        return tokenService.generateTokenResponse(user, "openid profile email", null);
+        return tokenService.generateTokenResponse(user, "openid profile email", null, loginToken.getFamilyId());
     }
 
     @Transactional
@@ -223,7 +242,7 @@ public class OAuth2Service {
             );
         }
         
-        LoginTokenEntity loginToken = loginTokenRepository.findByToken(token)
+        LoginTokenEntity loginToken = loginTokenRepository.findByTokenHash(HashUtils.sha256Hex(token))
             .orElseThrow(() -> new AuthServiceException(
                 AuthExceptionReasonCodes.INVALID_TOKEN,
                 "Invalid token"
@@ -232,4 +251,12 @@ public class OAuth2Service {
         log.info("Revoking token for user: {}", loginToken.getUser().getUuid());
         loginTokenRepository.delete(loginToken);
     }
+
+    private void revokeTokenFamily(String familyId) {
+        if (familyId == null) {
+            return;
+        }
+        int revoked = loginTokenRepository.deleteByFamilyId(UUID.fromString(familyId));
+        log.warn("Refresh token reuse detected, revoked {} tokens in family {}", revoked, familyId);
+    }
 }
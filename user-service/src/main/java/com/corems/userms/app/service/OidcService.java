@@ -11,14 +11,22 @@ import com.corems.userms.api.model.JwksResponseKeysInner;
 import com.corems.userms.api.model.OidcConfiguration;
 import com.corems.userms.api.model.OidcUserInfo;
 import com.corems.userms.app.entity.UserEntity;
+import com.corems.userms.app.model.Versioned;
 import com.corems.userms.app.repository.UserRepository;
+import com.corems.userms.app.security.SigningKeyRing;
+import com.corems.userms.app.util.EtagUtils;
+import com.corems.userms.app.util.HashUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.math.BigInteger;
-import java.security.PublicKey;
 import java.security.interfaces.RSAPublicKey;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
 
@@ -31,13 +39,53 @@ public class OidcService {
     private final TokenProvider tokenProvider;
     private final CoremsJwtProperties jwtProperties;
 
-    public OidcConfiguration getDiscoveryDocument() {
+    private final ObjectMapper objectMapper;
+    private final SigningKeyRing signingKeyRing;
+
+    private volatile Versioned<OidcConfiguration> discoveryDocument;
+    private volatile Versioned<JwksResponse> jwks;
+
+    // Both documents only change with configuration or keys, so they are built once and served as-is
+    @PostConstruct
+    public void refreshPublishedDocuments() {
         String issuer = jwtProperties.getIssuer();
-        
         if (issuer == null) {
+            log.warn("JWT issuer not configured, OIDC discovery document is not available");
+            discoveryDocument = null;
+        } else {
+            discoveryDocument = versioned(buildDiscoveryDocument(issuer));
+        }
+        jwks = versioned(buildJwks());
+    }
+
+    @Scheduled(fixedDelayString = "${app.security.keyring.prune-interval:PT1M}")
+    public void pruneRetiredSigningKeys() {
+        if (signingKeyRing.pruneExpired()) {
+            refreshPublishedDocuments();
+        }
+    }
+
+    public OidcConfiguration getDiscoveryDocument() {
+        return getVersionedDiscoveryDocument().value();
+    }
+
+    public Versioned<OidcConfiguration> getVersionedDiscoveryDocument() {
+        Versioned<OidcConfiguration> document = discoveryDocument;
+        if (document == null) {
             throw new IllegalStateException("JWT issuer not configured in spring.security.jwt.issuer");
         }
-        
+        return document;
+    }
+
+    public JwksResponse getJwks() {
+        return getVersionedJwks().value();
+    }
+
+    public Versioned<JwksResponse> getVersionedJwks() {
+        return jwks;
+    }
+
+    private OidcConfiguration buildDiscoveryDocument(String issuer) {
         String algorithm = tokenProvider.getAlgorithm();
         
         return new OidcConfiguration()
@@ -57,31 +105,42 @@ public class OidcService {
                 .codeChallengeMethodsSupported(List.of("S256", "plain"));
     }
 
-    public JwksResponse getJwks() {
-        PublicKey publicKey = tokenProvider.getPublicKey();
-        
-        if (publicKey == null) {
+    private JwksResponse buildJwks() {
+        List<JwksResponseKeysInner> keys = new ArrayList<>();
+        signingKeyRing.getPublishedKeys().forEach((kid, publicKey) -> {
+            if (!(publicKey instanceof RSAPublicKey rsaPublicKey)) {
+                log.warn("Public key {} is not RSA type, skipping it in JWKS", kid);
+                return;
+            }
+            keys.add(new JwksResponseKeysInner()
+                    .kty("RSA")
+                    .use("sig")
+                    .kid(kid)
+                    .alg(tokenProvider.getAlgorithm())
+                    .n(base64UrlEncode(rsaPublicKey.getModulus()))
+                    .e(base64UrlEncode(rsaPublicKey.getPublicExponent())));
+        });
+
+        if (keys.isEmpty()) {
             log.warn("No public key available for JWKS");
-            return new JwksResponse().keys(List.of());
         }
-        
-        if (!(publicKey instanceof RSAPublicKey rsaPublicKey)) {
-            log.warn("Public key is not RSA type, cannot generate JWKS");
-            return new JwksResponse().keys(List.of());
+        return new JwksResponse().keys(keys);
+    }
+
+    private <T> Versioned<T> versioned(T document) {
+        try {
+            String etag = "\"" + HashUtils.sha256Hex(objectMapper.writeValueAsString(document)).substring(0, 32) + "\"";
+            return new Versioned<>(document, etag);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize OIDC document", e);
         }
-        
-        JwksResponseKeysInner key = new JwksResponseKeysInner()
-                .kty("RSA")
-                .use("sig")
-                .kid(tokenProvider.getKeyId())
-                .alg(tokenProvider.getAlgorithm())
-                .n(base64UrlEncode(rsaPublicKey.getModulus()))
-                .e(base64UrlEncode(rsaPublicKey.getPublicExponent()));
-        
-        return new JwksResponse().keys(List.of(key));
     }
 
     public OidcUserInfo getUserInfo() {
+        return getVersionedUserInfo().value();
+    }
+
+    public Versioned<OidcUserInfo> getVersionedUserInfo() {
         UserPrincipal principal = SecurityUtils.getUserPrincipal();
         
         UserEntity user = userRepository.findByUuid(principal.getUserId())
@@ -90,7 +149,8 @@ public class OidcService {
                     "User not found"
                 ));
 
-        return mapToOidcUserInfo(user);
+        String etag = EtagUtils.userEtag(user.getUuid(), user.getUpdatedAt(), "userinfo");
+        return new Versioned<>(mapToOidcUserInfo(user), etag);
     }
     
     private String base64UrlEncode(BigInteger value) {
@@ -11,6 +11,7 @@ import com.corems.userms.app.model.enums.AuthProvider;
 import com.corems.userms.app.model.exception.AuthExceptionReasonCodes;
 import com.corems.userms.app.model.exception.AuthServiceException;
 import com.corems.userms.app.repository.UserRepository;
+import com.corems.userms.app.security.UserPrincipalCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -25,6 +26,7 @@ public class ProfileService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final OidcService oidcService;
+    private final UserPrincipalCache principalCache;
 
     public OidcUserInfo updateProfile(ProfileUpdateRequest request) {
         UserPrincipal userPrincipal = SecurityUtils.getUserPrincipal();
@@ -60,6 +62,7 @@ public class ProfileService {
         }
         
         userRepository.save(user);
+        principalCache.invalidate(user.getUuid());
         return oidcService.getUserInfo();
     }
 
@@ -3,6 +3,7 @@ package com.corems.userms.app.service;
 import com.corems.userms.api.model.SignUpRequest;
 import com.corems.userms.api.model.SuccessfulResponse;
 import com.corems.userms.app.entity.UserEntity;
+import com.corems.userms.app.model.ExistingUserKeys;
 import com.corems.userms.app.model.enums.AuthProvider;
 import com.corems.userms.app.model.enums.UserActionType;
 import com.corems.userms.app.model.exception.AuthExceptionReasonCodes;
@@ -10,11 +11,16 @@ import com.corems.userms.app.model.exception.AuthServiceException;
 import com.corems.userms.app.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @Service
@@ -25,8 +31,9 @@ public class RegistrationService {
     private final PasswordEncoder passwordEncoder;
     private final UserActionTokenService userActionTokenService;
     private final RoleService roleService;
+    private final TransactionTemplate transactionTemplate;
+    private final ConcurrentHashMap<String, InFlightSignUp> inFlightSignUps = new ConcurrentHashMap<>();
 
-    @Transactional
     public SuccessfulResponse signUp(SignUpRequest signUpRequest) {
         log.info("Sign up request for email: {}", signUpRequest.getEmail());
         
@@ -37,21 +44,44 @@ public class RegistrationService {
             );
         }
 
-        if (userRepository.findByEmail(signUpRequest.getEmail()).isPresent()) {
+        // Identical sign-ups in flight on this instance (double submit, client retry) share the first one's
+        // outcome instead of hashing the password again and losing on the unique constraint
+        InFlightSignUp own = new InFlightSignUp(signUpRequest, new CompletableFuture<>());
+        InFlightSignUp inFlight = inFlightSignUps.putIfAbsent(signUpRequest.getEmail(), own);
+        if (inFlight != null && inFlight.request().equals(signUpRequest)) {
+            return awaitSignUp(inFlight);
+        }
+        if (inFlight != null) {
+            return transactionTemplate.execute(status -> registerLocalUser(signUpRequest));
+        }
+
+        try {
+            SuccessfulResponse response = transactionTemplate.execute(status -> registerLocalUser(signUpRequest));
+            own.result().complete(response);
+            return response;
+        } catch (RuntimeException | Error e) {
+            own.result().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightSignUps.remove(signUpRequest.getEmail(), own);
+        }
+    }
+
+    private SuccessfulResponse registerLocalUser(SignUpRequest signUpRequest) {
+        // One projection query covers both unique columns and runs before the expensive password hash
+        List<ExistingUserKeys> existing = userRepository.findExistingUserKeys(
+                signUpRequest.getEmail(), signUpRequest.getPhoneNumber());
+        if (existing.stream().anyMatch(keys -> signUpRequest.getEmail().equals(keys.email()))) {
             throw new AuthServiceException(
                 AuthExceptionReasonCodes.USER_EXISTS, 
                 "User already exists"
             );
         }
-
-        if (signUpRequest.getPhoneNumber() != null) {
-            userRepository.findByPhoneNumber(signUpRequest.getPhoneNumber())
-                .ifPresent(existingUser -> {
-                    throw new AuthServiceException(
-                        AuthExceptionReasonCodes.USER_EXISTS, 
-                        "Phone number already in use"
-                    );
-                });
+        if (!existing.isEmpty()) {
+            throw new AuthServiceException(
+                AuthExceptionReasonCodes.USER_EXISTS, 
+                "Phone number already in use"
+            );
         }
 
         UserEntity.UserEntityBuilder userBuilder = UserEntity.builder()
@@ -74,7 +104,16 @@ public class RegistrationService {
         UserEntity user = userBuilder.build();
         roleService.assignDefaultRoles(user);
 
-        UserEntity savedUser = userRepository.save(user);
+        UserEntity savedUser;
+        try {
+            savedUser = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            // Lost the race to a concurrent sign-up, possibly on another instance
+            throw new AuthServiceException(
+                AuthExceptionReasonCodes.USER_EXISTS, 
+                "User already exists"
+            );
+        }
 
         userActionTokenService.sendEmailVerification(savedUser);
         
@@ -85,6 +124,17 @@ public class RegistrationService {
         return new SuccessfulResponse().result(true);
     }
 
+    private static SuccessfulResponse awaitSignUp(InFlightSignUp inFlight) {
+        try {
+            return inFlight.result().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
     public SuccessfulResponse verifyEmail(String email, String token) {
         boolean verified = userActionTokenService.verifyEmail(email, token);
         if (!verified) {
@@ -122,4 +172,7 @@ public class RegistrationService {
             );
         }
     }
+
+    private record InFlightSignUp(SignUpRequest request, CompletableFuture<SuccessfulResponse> result) {
+    }
 }
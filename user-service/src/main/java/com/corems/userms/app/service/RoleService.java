@@ -6,11 +6,14 @@ import com.corems.userms.app.config.UserServiceProperties;
 import com.corems.userms.app.entity.RoleEntity;
 import com.corems.userms.app.entity.UserEntity;
 import com.corems.userms.app.exception.UserServiceExceptionReasonCodes;
+import com.corems.userms.app.security.UserPrincipalCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 @Slf4j
@@ -19,6 +22,7 @@ import java.util.List;
 public class RoleService {
 
     private final UserServiceProperties userServiceProperties;
+    private final UserPrincipalCache principalCache;
 
     public void assignRoles(UserEntity user, List<String> desiredRoles) {
         List<String> toAssign;
@@ -47,6 +51,20 @@ public class RoleService {
             CoreMsRoles roleEnum = resolveRole(roleName);
             user.getRoles().add(new RoleEntity(roleEnum, user));
         }
+
+        // Role rows are a separate table, so bump the version explicitly to change the user's ETag
+        user.setUpdatedAt(Instant.now());
+        principalCache.invalidate(user.getUuid());
+    }
+
+    public boolean areValidRoles(List<String> roles) {
+        if (roles == null) {
+            return true;
+        }
+        return roles.stream()
+                .map(String::trim)
+                .map(String::toUpperCase)
+                .allMatch(rn -> Arrays.stream(CoreMsRoles.values()).anyMatch(role -> role.name().equals(rn)));
     }
 
     public void assignDefaultRoles(UserEntity user) {
@@ -0,0 +1,50 @@
+package com.corems.userms.app.service;
+
+import com.corems.userms.app.repository.SchedulerLockRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+// Lease-based lock so that only one replica runs a given scheduled job at a time
+@Service
+public class SchedulerLockService {
+
+    private final SchedulerLockRepository schedulerLockRepository;
+    private final String owner;
+
+    public SchedulerLockService(SchedulerLockRepository schedulerLockRepository) {
+        this.schedulerLockRepository = schedulerLockRepository;
+        this.owner = resolveHostName() + "-" + UUID.randomUUID();
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean tryAcquire(String name, Duration leaseTime) {
+        Instant now = Instant.now();
+        Instant lockedUntil = now.plus(leaseTime);
+
+        if (schedulerLockRepository.tryAcquire(name, owner, now, lockedUntil) > 0) {
+            return true;
+        }
+        // No row yet, or the lease is held elsewhere; an insert that loses the race affects no rows
+        return schedulerLockRepository.insertIfAbsent(name, owner, lockedUntil) > 0;
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void release(String name) {
+        schedulerLockRepository.release(name, owner, Instant.now());
+    }
+
+    private static String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
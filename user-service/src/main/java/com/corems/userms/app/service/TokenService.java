@@ -9,6 +9,7 @@ import com.corems.userms.app.entity.RoleEntity;
 import com.corems.userms.app.entity.UserEntity;
 import com.corems.userms.app.exception.UserServiceExceptionReasonCodes;
 import com.corems.userms.app.repository.LoginTokenRepository;
+import com.corems.userms.app.util.HashUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -23,12 +24,20 @@ import java.util.UUID;
 @Service
 @RequiredArgsConstructor
 public class TokenService {
+
+    public static final String CLAIM_FAMILY_ID = "fid";
+    public static final String CLAIM_TOKEN_USE = "token_use";
+    public static final String TOKEN_USE_ACCESS = "access";
     
     private final TokenProvider tokenProvider;
     private final LoginTokenRepository loginTokenRepository;
 
     public OAuth2TokenResponse generateTokenResponse(UserEntity user, String scope, String nonce) {
-        String refreshToken = createRefreshToken(user);
+        return generateTokenResponse(user, scope, nonce, null);
+    }
+
+    public OAuth2TokenResponse generateTokenResponse(UserEntity user, String scope, String nonce, UUID familyId) {
+        String refreshToken = createRefreshToken(user, familyId);
         String accessToken = tokenProvider.createAccessToken(
             user.getUuid().toString(), 
             getAccessTokenClaims(user)
@@ -86,10 +95,16 @@ public class TokenService {
     }
 
     public String createRefreshToken(UserEntity user) {
+        return createRefreshToken(user, null);
+    }
+
+    public String createRefreshToken(UserEntity user, UUID familyId) {
         UUID tokenId = UUID.randomUUID();
+        UUID tokenFamilyId = familyId != null ? familyId : tokenId;
         
         Map<String, Object> claims = Map.of(
-            TokenProvider.CLAIM_TOKEN_ID, tokenId.toString()
+            TokenProvider.CLAIM_TOKEN_ID, tokenId.toString(),
+            CLAIM_FAMILY_ID, tokenFamilyId.toString()
         );
         
         String refreshToken = tokenProvider.createRefreshToken(
@@ -99,8 +114,9 @@ public class TokenService {
 
         LoginTokenEntity loginToken = new LoginTokenEntity();
         loginToken.setUuid(tokenId);
+        loginToken.setFamilyId(tokenFamilyId);
         loginToken.setUser(user);
-        loginToken.setToken(refreshToken);
+        loginToken.setTokenHash(HashUtils.sha256Hex(refreshToken));
         loginTokenRepository.save(loginToken);
 
         return refreshToken;
@@ -124,6 +140,7 @@ public class TokenService {
 
     private Map<String, Object> getAccessTokenClaims(UserEntity user) {
         return Map.of(
+                CLAIM_TOKEN_USE, TOKEN_USE_ACCESS,
                 TokenProvider.CLAIM_EMAIL, user.getEmail(),
                 TokenProvider.CLAIM_FIRST_NAME, user.getFirstName(),
                 TokenProvider.CLAIM_LAST_NAME, user.getLastName(),
@@ -0,0 +1,23 @@
+package com.corems.userms.app.service;
+
+import com.corems.userms.app.entity.UserEntity;
+import com.corems.userms.app.repository.UserRepository;
+import com.corems.userms.app.repository.UserSearchPredicates;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.users.search-backend", havingValue = "trigram")
+public class TrigramUserSearchBackend implements UserSearchBackend {
+
+    private final UserRepository userRepository;
+
+    @Override
+    public Page<UserEntity> search(String term, Pageable pageable) {
+        return userRepository.searchByTrigram(UserSearchPredicates.containsPattern(term), pageable);
+    }
+}
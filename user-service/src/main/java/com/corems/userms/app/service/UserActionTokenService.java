@@ -3,11 +3,16 @@ package com.corems.userms.app.service;
 import com.corems.common.security.service.TokenProvider;
 import com.corems.userms.app.entity.ActionTokenEntity;
 import com.corems.userms.app.entity.UserEntity;
+import com.corems.userms.app.model.VerificationCandidate;
 import com.corems.userms.app.model.enums.AuthProvider;
 import com.corems.userms.app.model.enums.UserActionType;
 import com.corems.userms.app.repository.ActionTokenRepository;
 import com.corems.userms.app.repository.UserRepository;
+import com.corems.userms.app.security.TokenClaimsVerifier;
+import com.corems.userms.app.util.HashUtils;
 import io.jsonwebtoken.Claims;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -15,11 +20,9 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
@@ -34,6 +37,10 @@ public class UserActionTokenService {
     private final NotificationService notificationService;
     private final PasswordEncoder passwordEncoder;
     private final TokenProvider tokenProvider;
+    private final TokenClaimsVerifier tokenClaimsVerifier;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
     @Value("${app.verification-email.expiration-minutes:1440}")
     private int emailVerificationExpirationMinutes;
@@ -65,37 +72,54 @@ public class UserActionTokenService {
         // Delete any existing SMS verification tokens for this user
         actionTokenRepository.deleteByUserUuidAndActionType(user.getUuid(), UserActionType.SMS_VERIFICATION);
         
-        String code = generateNumericCode();
-        
-        // Store the SMS code as an action token for validation
-        UUID tokenId = UUID.randomUUID();
-        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(10); // SMS codes expire in 10 minutes
-        
-        String codeHash = hashToken(code); // Hash the code for security
-        
-        ActionTokenEntity actionToken = ActionTokenEntity.builder()
-                .uuid(tokenId)
-                .tokenHash(codeHash)
-                .actionType(UserActionType.SMS_VERIFICATION)
-                .user(user)
-                .expiresAt(expiresAt)
-                .used(false)
-                .build();
-        
-        actionTokenRepository.save(actionToken);
+        String code = createSmsCode(user);
         
         notificationService.sendSmsVerificationCode(user.getPhoneNumber(), user.getFirstName(), code);
         log.info("SMS verification sent to user: {}", user.getPhoneNumber());
     }
 
+    // Campaign path: users are loaded as projections and referenced by id, and the new tokens and
+    // outbox rows of the whole chunk are flushed as JDBC batches
+    @Transactional
+    public int sendEmailVerifications(List<VerificationCandidate> candidates) {
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+        actionTokenRepository.deleteByUserIdInAndActionType(
+                candidates.stream().map(VerificationCandidate::id).toList(), UserActionType.EMAIL_VERIFICATION);
+
+        for (VerificationCandidate candidate : candidates) {
+            String token = createActionToken(entityManager.getReference(UserEntity.class, candidate.id()),
+                    candidate.uuid(), candidate.email(), UserActionType.EMAIL_VERIFICATION, emailVerificationExpirationMinutes);
+            notificationService.sendEmailVerificationCode(candidate.email(), candidate.firstName(), token);
+        }
+        return candidates.size();
+    }
+
+    @Transactional
+    public int sendSmsVerifications(List<VerificationCandidate> candidates) {
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+        actionTokenRepository.deleteByUserIdInAndActionType(
+                candidates.stream().map(VerificationCandidate::id).toList(), UserActionType.SMS_VERIFICATION);
+
+        for (VerificationCandidate candidate : candidates) {
+            String code = createSmsCode(entityManager.getReference(UserEntity.class, candidate.id()));
+            notificationService.sendSmsVerificationCode(candidate.phoneNumber(), candidate.firstName(), code);
+        }
+        return candidates.size();
+    }
+
     @Transactional
     public boolean verifyEmail(String email, String token) {
         try {
-            if (!tokenProvider.isTokenValid(token)) {
+            Optional<Claims> verifiedClaims = tokenClaimsVerifier.verify(token);
+            if (verifiedClaims.isEmpty()) {
                 return false;
             }
             
-            Claims claims = tokenProvider.getAllClaims(token);
+            Claims claims = verifiedClaims.get();
             String actionType = claims.get(ACTION_TYPE_CLAIM, String.class);
             String tokenEmail = claims.get(EMAIL_CLAIM, String.class);
             
@@ -237,12 +261,13 @@ public class UserActionTokenService {
     @Transactional
     public boolean resetPassword(String email, String token, String newPassword) {
         try {
-            if (!tokenProvider.isTokenValid(token)) {
+            Optional<Claims> verifiedClaims = tokenClaimsVerifier.verify(token);
+            if (verifiedClaims.isEmpty()) {
                 log.warn("Invalid password reset token for email: {}", email);
                 return false;
             }
             
-            Claims claims = tokenProvider.getAllClaims(token);
+            Claims claims = verifiedClaims.get();
             String actionType = claims.get(ACTION_TYPE_CLAIM, String.class);
             String tokenEmail = claims.get(EMAIL_CLAIM, String.class);
             
@@ -295,13 +320,18 @@ public class UserActionTokenService {
     }
 
     private String createActionToken(UserEntity user, UserActionType actionType, long expirationMinutes) {
+        return createActionToken(user, user.getUuid(), user.getEmail(), actionType, expirationMinutes);
+    }
+
+    // user may be an uninitialized reference, so the claims come from the explicit arguments
+    private String createActionToken(UserEntity user, UUID userUuid, String email, UserActionType actionType, long expirationMinutes) {
         UUID tokenId = UUID.randomUUID();
         LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(expirationMinutes);
         
         Map<String, Object> claims = Map.of(
                 ACTION_TYPE_CLAIM, actionType.name(),
-                USER_ID_CLAIM, user.getUuid().toString(),
-                EMAIL_CLAIM, user.getEmail(),
+                USER_ID_CLAIM, userUuid.toString(),
+                EMAIL_CLAIM, email,
                 TOKEN_ID_CLAIM, tokenId.toString()
         );
         
@@ -322,31 +352,28 @@ public class UserActionTokenService {
         return token;
     }
 
+    private String createSmsCode(UserEntity user) {
+        String code = generateNumericCode();
+        
+        // Store the SMS code as an action token for validation
+        ActionTokenEntity actionToken = ActionTokenEntity.builder()
+                .uuid(UUID.randomUUID())
+                .tokenHash(hashToken(code)) // Hash the code for security
+                .actionType(UserActionType.SMS_VERIFICATION)
+                .user(user)
+                .expiresAt(LocalDateTime.now().plusMinutes(10)) // SMS codes expire in 10 minutes
+                .used(false)
+                .build();
+        
+        actionTokenRepository.save(actionToken);
+        return code;
+    }
+
     private String generateNumericCode() {
         return String.format("%06d", SECURE_RANDOM.nextInt(1000000));
     }
 
     private String hashToken(String token) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(token.getBytes(StandardCharsets.UTF_8));
-            StringBuilder hexString = new StringBuilder();
-            for (byte b : hash) {
-                String hex = Integer.toHexString(0xff & b);
-                if (hex.length() == 1) {
-                    hexString.append('0');
-                }
-                hexString.append(hex);
-            }
-            return hexString.toString();
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("SHA-256 algorithm not available", e);
-        }
-    }
-
-    @Transactional
-    public void cleanupExpiredTokens() {
-        actionTokenRepository.deleteByExpiresAtBefore(LocalDateTime.now());
-        log.info("Cleaned up expired action tokens");
+        return HashUtils.sha256Hex(token);
     }
 }
\ No newline at end of file
@@ -0,0 +1,206 @@
+package com.corems.userms.app.service;
+
+import com.corems.userms.api.model.UserInfo;
+import com.corems.userms.app.entity.UserEntity;
+import com.corems.userms.app.model.enums.UserExportFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+public class UserExportService {
+
+    private static final String CSV_HEADER = "userId,email,firstName,lastName,phoneNumber,imageUrl,provider,"
+            + "emailVerified,phoneVerified,roles,createdAt,updatedAt,lastLoginAt\n";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.users.export.fetch-size:500}")
+    private int fetchSize;
+
+    public UserExportService(PlatformTransactionManager transactionManager, ObjectMapper objectMapper) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.objectMapper = objectMapper;
+    }
+
+    public void export(UserExportFormat format, String provider, List<UUID> userIds, OutputStream outputStream) {
+        BufferedOutputStream out = new BufferedOutputStream(outputStream, 64 * 1024);
+        long[] exported = {0};
+
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<Tuple> rows = streamUsers(provider, userIds)) {
+                if (format == UserExportFormat.csv) {
+                    out.write(CSV_HEADER.getBytes(StandardCharsets.UTF_8));
+                }
+
+                List<Tuple> chunk = new ArrayList<>(fetchSize);
+                rows.forEach(row -> {
+                    chunk.add(row);
+                    if (chunk.size() == fetchSize) {
+                        exported[0] += writeChunk(format, chunk, out);
+                        chunk.clear();
+                    }
+                });
+                exported[0] += writeChunk(format, chunk, out);
+                out.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        log.info("Exported {} users as {}", exported[0], format);
+    }
+
+    // Scalar projection read through a server-side cursor: nothing is attached to the persistence
+    // context, so memory stays flat regardless of table size
+    private Stream<Tuple> streamUsers(String provider, List<UUID> userIds) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<UserEntity> user = query.from(UserEntity.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (provider != null) {
+            predicates.add(cb.equal(user.get("provider"), provider));
+        }
+        if (userIds != null && !userIds.isEmpty()) {
+            predicates.add(user.get("uuid").in(userIds));
+        }
+
+        query.multiselect(
+                        user.get("id").alias("id"),
+                        user.get("uuid").alias("uuid"),
+                        user.get("email").alias("email"),
+                        user.get("firstName").alias("firstName"),
+                        user.get("lastName").alias("lastName"),
+                        user.get("phoneNumber").alias("phoneNumber"),
+                        user.get("imageUrl").alias("imageUrl"),
+                        user.get("provider").alias("provider"),
+                        user.get("emailVerified").alias("emailVerified"),
+                        user.get("phoneVerified").alias("phoneVerified"),
+                        user.get("createdAt").alias("createdAt"),
+                        user.get("updatedAt").alias("updatedAt"),
+                        user.get("lastLoginAt").alias("lastLoginAt"))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.asc(user.get("id")));
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    private int writeChunk(UserExportFormat format, List<Tuple> chunk, OutputStream out) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, List<String>> roles = loadRoles(chunk.stream().map(row -> row.get("id", Long.class)).toList());
+        try {
+            for (Tuple row : chunk) {
+                UserInfo userInfo = toUserInfo(row, roles.getOrDefault(row.get("id", Long.class), List.of()));
+                if (format == UserExportFormat.csv) {
+                    out.write(toCsvLine(userInfo).getBytes(StandardCharsets.UTF_8));
+                } else {
+                    out.write(objectMapper.writeValueAsBytes(userInfo));
+                    out.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return chunk.size();
+    }
+
+    private Map<Long, List<String>> loadRoles(List<Long> userIds) {
+        List<Object[]> rows = entityManager
+                .createQuery("SELECT r.user.id, r.name FROM RoleEntity r WHERE r.user.id IN :userIds", Object[].class)
+                .setParameter("userIds", userIds)
+                .getResultList();
+
+        Map<Long, List<String>> roles = new HashMap<>();
+        for (Object[] row : rows) {
+            roles.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+        }
+        return roles;
+    }
+
+    private UserInfo toUserInfo(Tuple row, List<String> roles) {
+        Instant lastLoginAt = row.get("lastLoginAt", Instant.class);
+        return new UserInfo()
+                .userId(row.get("uuid", UUID.class))
+                .email(row.get("email", String.class))
+                .firstName(row.get("firstName", String.class))
+                .lastName(row.get("lastName", String.class))
+                .phoneNumber(row.get("phoneNumber", String.class))
+                .imageUrl(row.get("imageUrl", String.class))
+                .provider(row.get("provider", String.class))
+                .emailVerified(row.get("emailVerified", Boolean.class))
+                .phoneVerified(row.get("phoneVerified", Boolean.class))
+                .roles(roles)
+                .createdAt(row.get("createdAt", Instant.class).atOffset(ZoneOffset.UTC))
+                .updatedAt(row.get("updatedAt", Instant.class).atOffset(ZoneOffset.UTC))
+                .lastLoginAt(lastLoginAt != null ? lastLoginAt.atOffset(ZoneOffset.UTC) : null);
+    }
+
+    private String toCsvLine(UserInfo userInfo) {
+        return Stream.of(
+                        userInfo.getUserId(),
+                        userInfo.getEmail(),
+                        userInfo.getFirstName(),
+                        userInfo.getLastName(),
+                        userInfo.getPhoneNumber(),
+                        userInfo.getImageUrl(),
+                        userInfo.getProvider(),
+                        userInfo.getEmailVerified(),
+                        userInfo.getPhoneVerified(),
+                        String.join(";", userInfo.getRoles()),
+                        userInfo.getCreatedAt(),
+                        userInfo.getUpdatedAt(),
+                        userInfo.getLastLoginAt())
+                .map(this::csvField)
+                .collect(Collectors.joining(",", "", "\n"));
+    }
+
+    private String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+}
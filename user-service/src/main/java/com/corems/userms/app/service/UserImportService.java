@@ -0,0 +1,289 @@
+package com.corems.userms.app.service;
+
+import com.corems.common.exception.ServiceException;
+import com.corems.userms.api.model.UserImportError;
+import com.corems.userms.api.model.UserImportResponse;
+import com.corems.userms.app.entity.UserEntity;
+import com.corems.userms.app.exception.UserServiceExceptionReasonCodes;
+import com.corems.userms.app.model.enums.AuthProvider;
+import com.corems.userms.app.model.enums.UserExportFormat;
+import com.corems.userms.app.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+@Slf4j
+@Service
+public class UserImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final UserRepository userRepository;
+    private final RoleService roleService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.users.import.chunk-size:500}")
+    private int chunkSize;
+
+    public UserImportService(UserRepository userRepository,
+                             RoleService roleService,
+                             ObjectMapper objectMapper,
+                             PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.roleService = roleService;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public UserImportResponse importUsers(UserExportFormat format, InputStream inputStream) {
+        ImportResult result = new ImportResult();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            Map<String, Integer> csvColumns = format == UserExportFormat.csv ? readCsvHeader(reader) : null;
+            long lineNumber = csvColumns != null ? 1 : 0;
+            List<ImportRow> chunk = new ArrayList<>(chunkSize);
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                result.total++;
+
+                try {
+                    chunk.add(csvColumns != null ? parseCsvRow(lineNumber, line, csvColumns) : parseJsonRow(lineNumber, line));
+                } catch (IOException | RuntimeException e) {
+                    result.fail(lineNumber, null, "Malformed row");
+                }
+
+                if (chunk.size() == chunkSize) {
+                    importChunk(chunk, result);
+                    chunk.clear();
+                }
+            }
+            importChunk(chunk, result);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        log.info("User import finished: {} rows, {} imported, {} failed", result.total, result.imported, result.failed);
+        return new UserImportResponse(result.total, result.imported, result.failed).errors(result.errors);
+    }
+
+    private void importChunk(List<ImportRow> chunk, ImportResult result) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        List<ImportRow> valid = validateChunk(chunk, result);
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> insertRows(valid));
+            result.imported += valid.size();
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent insert won a unique constraint; retry row by row to find the offenders
+            log.debug("Batch insert failed, retrying {} rows individually", valid.size(), e);
+            for (ImportRow row : valid) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> insertRows(List.of(row)));
+                    result.imported++;
+                } catch (DataIntegrityViolationException rowError) {
+                    result.fail(row.line(), row.email(), "User with this email or phone number already exists");
+                }
+            }
+        } finally {
+            // The request-scoped persistence context would otherwise keep every imported entity
+            entityManager.clear();
+        }
+    }
+
+    // Uniqueness is checked with one query per column for the whole chunk; earlier chunks are already committed
+    private List<ImportRow> validateChunk(List<ImportRow> chunk, ImportResult result) {
+        List<ImportRow> candidates = new ArrayList<>(chunk.size());
+        Set<String> chunkEmails = new HashSet<>();
+        Set<String> chunkPhones = new HashSet<>();
+
+        for (ImportRow row : chunk) {
+            if (!StringUtils.hasText(row.email()) || !EMAIL_PATTERN.matcher(row.email()).matches()) {
+                result.fail(row.line(), row.email(), "Invalid email");
+            } else if (!roleService.areValidRoles(row.roles())) {
+                result.fail(row.line(), row.email(), "Invalid role");
+            } else if (!chunkEmails.add(row.email())) {
+                result.fail(row.line(), row.email(), "Duplicate email in import");
+            } else if (row.phoneNumber() != null && !chunkPhones.add(row.phoneNumber())) {
+                result.fail(row.line(), row.email(), "Duplicate phone number in import");
+            } else {
+                candidates.add(row);
+            }
+        }
+
+        Set<String> existingEmails = new HashSet<>(userRepository.findExistingEmails(chunkEmails));
+        Set<String> existingPhones = chunkPhones.isEmpty()
+                ? Set.of()
+                : new HashSet<>(userRepository.findExistingPhoneNumbers(chunkPhones));
+
+        List<ImportRow> valid = new ArrayList<>(candidates.size());
+        for (ImportRow row : candidates) {
+            if (existingEmails.contains(row.email())) {
+                result.fail(row.line(), row.email(), "User with this email already exists");
+            } else if (row.phoneNumber() != null && existingPhones.contains(row.phoneNumber())) {
+                result.fail(row.line(), row.email(), "User with this phone number already exists");
+            } else {
+                valid.add(row);
+            }
+        }
+        return valid;
+    }
+
+    private void insertRows(List<ImportRow> rows) {
+        List<UserEntity> users = new ArrayList<>(rows.size());
+        for (ImportRow row : rows) {
+            UserEntity user = UserEntity.builder()
+                    .email(row.email())
+                    .firstName(row.firstName())
+                    .lastName(row.lastName())
+                    .phoneNumber(row.phoneNumber())
+                    .provider(AuthProvider.local.name())
+                    .password("{noop}temporary")
+                    .build();
+            roleService.assignRoles(user, row.roles());
+            users.add(user);
+        }
+
+        // Pooled sequence ids plus hibernate.jdbc.batch_size turn this into batched INSERTs
+        userRepository.saveAll(users);
+        entityManager.flush();
+    }
+
+    private ImportRow parseJsonRow(long lineNumber, String line) throws IOException {
+        Map<?, ?> json = objectMapper.readValue(line, Map.class);
+        Object roles = json.get("roles");
+        return new ImportRow(
+                lineNumber,
+                emptyToNull((String) json.get("email")),
+                (String) json.get("firstName"),
+                (String) json.get("lastName"),
+                emptyToNull((String) json.get("phoneNumber")),
+                roles instanceof List<?> roleList ? roleList.stream().map(String::valueOf).toList() : null
+        );
+    }
+
+    private Map<String, Integer> readCsvHeader(BufferedReader reader) throws IOException {
+        String header = reader.readLine();
+        if (header == null) {
+            return Map.of();
+        }
+
+        List<String> columns = splitCsvLine(header);
+        Map<String, Integer> indexes = new HashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            indexes.put(columns.get(i).trim(), i);
+        }
+        if (!indexes.containsKey("email")) {
+            throw ServiceException.of(UserServiceExceptionReasonCodes.INVALID_IMPORT,
+                    "CSV header must contain an email column");
+        }
+        return indexes;
+    }
+
+    private ImportRow parseCsvRow(long lineNumber, String line, Map<String, Integer> columns) {
+        List<String> values = splitCsvLine(line);
+        String roles = csvValue(values, columns, "roles");
+        return new ImportRow(
+                lineNumber,
+                csvValue(values, columns, "email"),
+                csvValue(values, columns, "firstName"),
+                csvValue(values, columns, "lastName"),
+                csvValue(values, columns, "phoneNumber"),
+                roles != null ? Arrays.stream(roles.split(";")).map(String::trim).toList() : null
+        );
+    }
+
+    private String csvValue(List<String> values, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        return index != null && index < values.size() ? emptyToNull(values.get(index)) : null;
+    }
+
+    // RFC 4180 fields on a single line: quoted fields may contain commas and doubled quotes
+    private List<String> splitCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private String emptyToNull(String value) {
+        return StringUtils.hasText(value) ? value.trim() : null;
+    }
+
+    private record ImportRow(long line, String email, String firstName, String lastName, String phoneNumber,
+                             List<String> roles) {
+    }
+
+    private static class ImportResult {
+        private long total;
+        private long imported;
+        private long failed;
+        private final List<UserImportError> errors = new ArrayList<>();
+
+        private void fail(long line, String email, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new UserImportError(line, message).email(email));
+            }
+        }
+    }
+}
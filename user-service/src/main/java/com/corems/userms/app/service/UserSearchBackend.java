@@ -0,0 +1,11 @@
+package com.corems.userms.app.service;
+
+import com.corems.userms.app.entity.UserEntity;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+// Free-text search over email, first name and last name, newest users first
+public interface UserSearchBackend {
+
+    Page<UserEntity> search(String term, Pageable pageable);
+}
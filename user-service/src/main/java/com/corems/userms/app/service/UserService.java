@@ -7,23 +7,35 @@ import com.corems.userms.app.entity.UserEntity;
 import com.corems.userms.app.entity.RoleEntity;
 import com.corems.userms.app.exception.UserServiceExceptionReasonCodes;
 import com.corems.userms.api.model.AdminSetPasswordRequest;
+import com.corems.userms.api.model.BatchGetUsersResponse;
 import com.corems.userms.api.model.ChangeEmailRequest;
 import com.corems.userms.api.model.CreateUserRequest;
 import com.corems.userms.api.model.SuccessfulResponse;
 import com.corems.userms.api.model.UserInfo;
 import com.corems.userms.api.model.UsersPagedResponse;
+import com.corems.userms.app.model.ExistingUserKeys;
+import com.corems.userms.app.model.Versioned;
 import com.corems.userms.app.model.enums.AuthProvider;
 import com.corems.userms.app.model.exception.AuthExceptionReasonCodes;
 import com.corems.userms.app.model.exception.AuthServiceException;
 import com.corems.userms.app.repository.UserRepository;
+import com.corems.userms.app.security.UserPrincipalCache;
+import com.corems.userms.app.util.EtagUtils;
 import com.corems.common.utils.db.utils.QueryParams;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -34,16 +46,34 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class UserService {
     private static final String USER_NOT_FOUND_MSG = "User id: %s not found";
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final RoleService roleService;
+    private final UserPrincipalCache principalCache;
+    private final UserSearchBackend userSearchBackend;
 
     public UserInfo getUserById(UUID userId) {
+        return getVersionedUserById(userId).value();
+    }
+
+    public Versioned<UserInfo> getVersionedUserById(UUID userId) {
         UserEntity user = userRepository.findByUuid(userId)
                 .orElseThrow(() -> new AuthServiceException(AuthExceptionReasonCodes.USER_NOT_FOUND, String.format(USER_NOT_FOUND_MSG, userId)));
 
-        return mapToUserInfo(user);
+        boolean isAdmin = SecurityUtils.hasRole(CoreMsRoles.USER_MS_ADMIN);
+        String etag = EtagUtils.userEtag(user.getUuid(), user.getUpdatedAt(), isAdmin ? "admin" : "user");
+        return new Versioned<>(mapToUserInfo(user, isAdmin), etag);
+    }
+
+    public BatchGetUsersResponse getUsersByIds(List<UUID> userIds) {
+        boolean isAdmin = SecurityUtils.hasRole(CoreMsRoles.USER_MS_ADMIN);
+        List<UserInfo> items = userRepository.findAllByUuidIn(new HashSet<>(userIds)).stream()
+                .map(user -> mapToUserInfo(user, isAdmin))
+                .toList();
+        return new BatchGetUsersResponse(items);
     }
 
     public SuccessfulResponse updateUserById(UUID userId, UserInfo userInfo) {
@@ -78,22 +108,20 @@ public class UserService {
         }
 
         userRepository.save(user);
+        principalCache.invalidate(userId);
 
         return new SuccessfulResponse().result(true);
     }
 
     public SuccessfulResponse createUser(CreateUserRequest createUserRequest) {
-        if (userRepository.findByEmail(createUserRequest.getEmail()).isPresent()) {
+        List<ExistingUserKeys> existing = userRepository.findExistingUserKeys(
+                createUserRequest.getEmail(), createUserRequest.getPhoneNumber());
+        if (existing.stream().anyMatch(keys -> createUserRequest.getEmail().equals(keys.email()))) {
             throw ServiceException.of(UserServiceExceptionReasonCodes.USER_EXISTS, "User with this email already exists");
         }
-
-        // Validate phone number uniqueness if provided
-        if (createUserRequest.getPhoneNumber() != null) {
-            userRepository.findByPhoneNumber(createUserRequest.getPhoneNumber())
-                .ifPresent(existingUser -> {
-                    throw ServiceException.of(UserServiceExceptionReasonCodes.USER_EXISTS, 
-                        "User with this phone number already exists");
-                });
+        if (!existing.isEmpty()) {
+            throw ServiceException.of(UserServiceExceptionReasonCodes.USER_EXISTS, 
+                "User with this phone number already exists");
         }
 
         UserEntity.UserEntityBuilder userBuilder = UserEntity.builder()
@@ -110,7 +138,12 @@ public class UserService {
         UserEntity user = userBuilder.build();
         assignRoles(user, createUserRequest.getRoles());
 
-        userRepository.save(user);
+        try {
+            userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent insert took the email or phone number after the check above
+            throw ServiceException.of(UserServiceExceptionReasonCodes.USER_EXISTS, "User with this email or phone number already exists");
+        }
 
         return new SuccessfulResponse().result(true);
     }
@@ -120,6 +153,7 @@ public class UserService {
                 .orElseThrow(() -> new AuthServiceException(AuthExceptionReasonCodes.USER_NOT_FOUND, String.format(USER_NOT_FOUND_MSG, userId)));
 
         userRepository.delete(user);
+        principalCache.invalidate(userId);
         return new SuccessfulResponse().result(true);
     }
 
@@ -142,6 +176,7 @@ public class UserService {
 
         user.setEmail(changeEmailRequest.getNewEmail());
         userRepository.save(user);
+        principalCache.invalidate(userId);
 
         return new SuccessfulResponse().result(true);
     }
@@ -150,14 +185,35 @@ public class UserService {
                                           Optional<Integer> pageSize,
                                           Optional<String> search,
                                           Optional<String> sort,
-                                          Optional<List<String>> filters) {
+                                          Optional<List<String>> filters,
+                                          Optional<String> cursor,
+                                          Optional<Boolean> includeTotal) {
+        if (cursor.isPresent() || includeTotal.filter(Boolean.FALSE::equals).isPresent()) {
+            if (filters.filter(f -> !f.isEmpty()).isPresent()) {
+                throw ServiceException.of(UserServiceExceptionReasonCodes.INVALID_PAGINATION,
+                        "Filters are not supported with cursor pagination");
+            }
+            return getUsersByCursor(pageSize, search, cursor, includeTotal.orElse(false));
+        }
+
         if (sort.isEmpty()) {
             sort = Optional.of("createdAt:desc");
         }
-        QueryParams params = new QueryParams(page, pageSize, search, sort, filters);
-        Page<UserEntity> userPage = userRepository.findAllByQueryParams(params);
+
+        Page<UserEntity> userPage;
+        boolean plainSearch = search.filter(StringUtils::hasText).isPresent()
+                && filters.filter(f -> !f.isEmpty()).isEmpty()
+                && sort.get().equals("createdAt:desc");
+        if (plainSearch) {
+            // Text search without filters goes through the index-backed search backend
+            int size = Math.clamp(pageSize.orElse(DEFAULT_PAGE_SIZE), 1, MAX_PAGE_SIZE);
+            userPage = userSearchBackend.search(search.get(), PageRequest.of(Math.max(page.orElse(1), 1) - 1, size));
+        } else {
+            userPage = userRepository.findAllByQueryParams(new QueryParams(page, pageSize, search, sort, filters));
+        }
+        boolean isAdmin = SecurityUtils.hasRole(CoreMsRoles.USER_MS_ADMIN);
         List<UserInfo> items = userPage.getContent().stream()
-                .map(this::mapToUserInfo)
+                .map(user -> mapToUserInfo(user, isAdmin))
                 .toList();
 
         UsersPagedResponse response = new UsersPagedResponse(userPage.getNumber() + 1, userPage.getSize());
@@ -167,7 +223,51 @@ public class UserService {
         return response;
     }
 
+    private UsersPagedResponse getUsersByCursor(Optional<Integer> pageSize,
+                                                Optional<String> search,
+                                                Optional<String> cursor,
+                                                boolean includeTotal) {
+        int size = Math.clamp(pageSize.orElse(DEFAULT_PAGE_SIZE), 1, MAX_PAGE_SIZE);
+        Instant afterCreatedAt = null;
+        Long afterId = null;
+
+        if (cursor.isPresent()) {
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(cursor.get()), StandardCharsets.UTF_8).split(",", 2);
+                afterCreatedAt = Instant.parse(parts[0]);
+                afterId = Long.parseLong(parts[1]);
+            } catch (RuntimeException e) {
+                throw ServiceException.of(UserServiceExceptionReasonCodes.INVALID_PAGINATION, "Malformed cursor");
+            }
+        }
+
+        // Fetch one extra row to know whether a next page exists without counting
+        List<UserEntity> users = userRepository.findPageAfter(afterCreatedAt, afterId, search.orElse(null), size + 1);
+        boolean hasNext = users.size() > size;
+        List<UserEntity> pageUsers = hasNext ? users.subList(0, size) : users;
+
+        boolean isAdmin = SecurityUtils.hasRole(CoreMsRoles.USER_MS_ADMIN);
+        UsersPagedResponse response = new UsersPagedResponse(1, size);
+        response.setItems(pageUsers.stream().map(user -> mapToUserInfo(user, isAdmin)).toList());
+
+        if (hasNext) {
+            UserEntity last = pageUsers.getLast();
+            String nextCursor = last.getCreatedAt() + "," + last.getId();
+            response.setNextCursor(Base64.getUrlEncoder().withoutPadding().encodeToString(nextCursor.getBytes(StandardCharsets.UTF_8)));
+        }
+        if (includeTotal) {
+            long total = userRepository.countMatching(search.orElse(null));
+            response.setTotalElements(total);
+            response.setTotalPages((int) ((total + size - 1) / size));
+        }
+        return response;
+    }
+
     private UserInfo mapToUserInfo(UserEntity user) {
+        return mapToUserInfo(user, SecurityUtils.hasRole(CoreMsRoles.USER_MS_ADMIN));
+    }
+
+    private UserInfo mapToUserInfo(UserEntity user, boolean isAdmin) {
         UserInfo userInfo = new UserInfo()
                 .userId(user.getUuid())
                 .firstName(user.getFirstName())
@@ -176,7 +276,7 @@ public class UserService {
                 .phoneNumber(user.getPhoneNumber())
                 .imageUrl(user.getImageUrl());
 
-        if (SecurityUtils.hasRole(CoreMsRoles.USER_MS_ADMIN)) {
+        if (isAdmin) {
             userInfo
                     .provider(user.getProvider())
                     .roles(user.getRoles().stream().map(RoleEntity::getName).toList())
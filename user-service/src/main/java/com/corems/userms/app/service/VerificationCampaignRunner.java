@@ -0,0 +1,165 @@
+package com.corems.userms.app.service;
+
+import com.corems.userms.app.entity.VerificationCampaignEntity;
+import com.corems.userms.app.model.VerificationCandidate;
+import com.corems.userms.app.model.enums.NotificationStatus;
+import com.corems.userms.app.model.enums.VerificationCampaignStatus;
+import com.corems.userms.app.repository.NotificationOutboxRepository;
+import com.corems.userms.app.repository.UserRepository;
+import com.corems.userms.app.repository.VerificationCampaignRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.users.verification-campaign.runner-enabled", havingValue = "true", matchIfMissing = true)
+public class VerificationCampaignRunner {
+
+    private static final String LOCK_NAME = "verification-campaign";
+    private static final String METRIC_PREFIX = "user.verification.campaign";
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final VerificationCampaignRepository verificationCampaignRepository;
+    private final UserRepository userRepository;
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final UserActionTokenService userActionTokenService;
+    private final SchedulerLockService schedulerLockService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.users.verification-campaign.chunk-size:200}")
+    private int chunkSize;
+
+    @Value("${app.users.verification-campaign.max-outbox-backlog:5000}")
+    private long maxOutboxBacklog;
+
+    @Value("${app.users.verification-campaign.max-run-time:PT4M}")
+    private Duration maxRunTime;
+
+    @Value("${app.users.verification-campaign.lock-lease:PT5M}")
+    private Duration lockLease;
+
+    @Scheduled(fixedDelayString = "${app.users.verification-campaign.poll-interval:PT30S}")
+    public void run() {
+        if (!schedulerLockService.tryAcquire(LOCK_NAME, lockLease)) {
+            return;
+        }
+
+        try {
+            verificationCampaignRepository.findFirstByStatusOrderByIdAsc(VerificationCampaignStatus.RUNNING)
+                    .ifPresent(campaign -> runCampaign(campaign.getId()));
+        } finally {
+            schedulerLockService.release(LOCK_NAME);
+        }
+    }
+
+    // Works through chunks until the campaign ends, the run time is used up or the outbox backs up;
+    // the next poll resumes from the committed checkpoint
+    private void runCampaign(Long campaignId) {
+        long startedNanos = System.nanoTime();
+        long deadlineNanos = startedNanos + maxRunTime.toNanos();
+        long queued = 0;
+
+        try {
+            while (System.nanoTime() < deadlineNanos) {
+                if (notificationOutboxRepository.countByStatus(NotificationStatus.PENDING) >= maxOutboxBacklog) {
+                    log.debug("Outbox backlog above {}, pausing verification campaign", maxOutboxBacklog);
+                    return;
+                }
+
+                ChunkResult result = transactionTemplate.execute(status -> processChunk(campaignId));
+                if (result == null || result.finished()) {
+                    return;
+                }
+                queued += result.queued();
+                throttle(startedNanos, queued, result.ratePerSecond());
+            }
+        } catch (OptimisticLockingFailureException e) {
+            log.info("Verification campaign changed while a chunk was running, chunk rolled back");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.error("Verification campaign chunk failed, retrying from the checkpoint on the next run", e);
+            recordError(campaignId, e);
+        }
+    }
+
+    // Tokens, outbox rows and the checkpoint of a chunk commit together, so a crash never skips or repeats users
+    ChunkResult processChunk(Long campaignId) {
+        VerificationCampaignEntity campaign = verificationCampaignRepository.findById(campaignId).orElse(null);
+        if (campaign == null || campaign.getStatus() != VerificationCampaignStatus.RUNNING) {
+            return ChunkResult.FINISHED;
+        }
+
+        List<VerificationCandidate> chunk = userRepository.findVerificationCandidates(
+                campaign.getLastUserId(), PageRequest.ofSize(chunkSize));
+        if (chunk.isEmpty()) {
+            campaign.setStatus(VerificationCampaignStatus.COMPLETED);
+            campaign.setCompletedAt(Instant.now());
+            log.info("Verification campaign {} completed: {} users, {} emails, {} SMS",
+                    campaign.getUuid(), campaign.getProcessed(), campaign.getEmailsQueued(), campaign.getSmsQueued());
+            return ChunkResult.FINISHED;
+        }
+
+        int emails = campaign.isSendEmail()
+                ? userActionTokenService.sendEmailVerifications(
+                        chunk.stream().filter(VerificationCandidate::needsEmailVerification).toList())
+                : 0;
+        int sms = campaign.isSendSms()
+                ? userActionTokenService.sendSmsVerifications(
+                        chunk.stream().filter(VerificationCandidate::needsSmsVerification).toList())
+                : 0;
+
+        campaign.setLastUserId(chunk.getLast().id());
+        campaign.setProcessed(campaign.getProcessed() + chunk.size());
+        campaign.setEmailsQueued(campaign.getEmailsQueued() + emails);
+        campaign.setSmsQueued(campaign.getSmsQueued() + sms);
+        campaign.setLastError(null);
+
+        Counter.builder(METRIC_PREFIX + ".queued").tag("channel", "EMAIL").register(meterRegistry).increment(emails);
+        Counter.builder(METRIC_PREFIX + ".queued").tag("channel", "SMS").register(meterRegistry).increment(sms);
+        return new ChunkResult(false, emails + sms, campaign.getRatePerSecond());
+    }
+
+    // Paces the campaign to ratePerSecond on average so regular verification mail is not queued behind it
+    private static void throttle(long startedNanos, long queued, int ratePerSecond) throws InterruptedException {
+        long dueNanos = startedNanos + queued * TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+        long waitNanos = dueNanos - System.nanoTime();
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    private void recordError(Long campaignId, RuntimeException error) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> verificationCampaignRepository.findById(campaignId)
+                    .filter(campaign -> campaign.getStatus() == VerificationCampaignStatus.RUNNING)
+                    .ifPresent(campaign -> campaign.setLastError(truncate(String.valueOf(error.getMessage())))));
+        } catch (RuntimeException e) {
+            log.warn("Could not record verification campaign error", e);
+        }
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    record ChunkResult(boolean finished, int queued, int ratePerSecond) {
+        static final ChunkResult FINISHED = new ChunkResult(true, 0, 0);
+    }
+}
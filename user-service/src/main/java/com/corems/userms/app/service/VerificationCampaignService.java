@@ -0,0 +1,101 @@
+package com.corems.userms.app.service;
+
+import com.corems.common.exception.ServiceException;
+import com.corems.userms.api.model.StartVerificationCampaignRequest;
+import com.corems.userms.api.model.VerificationCampaign;
+import com.corems.userms.app.entity.VerificationCampaignEntity;
+import com.corems.userms.app.exception.UserServiceExceptionReasonCodes;
+import com.corems.userms.app.model.enums.VerificationCampaignStatus;
+import com.corems.userms.app.repository.UserRepository;
+import com.corems.userms.app.repository.VerificationCampaignRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VerificationCampaignService {
+
+    private final VerificationCampaignRepository verificationCampaignRepository;
+    private final UserRepository userRepository;
+
+    @Value("${app.users.verification-campaign.default-rate-per-second:50}")
+    private int defaultRatePerSecond;
+
+    @Transactional
+    public VerificationCampaign startCampaign(StartVerificationCampaignRequest request) {
+        boolean sendEmail = !Boolean.FALSE.equals(request.getEmail());
+        boolean sendSms = !Boolean.FALSE.equals(request.getSms());
+        if (!sendEmail && !sendSms) {
+            throw ServiceException.of(UserServiceExceptionReasonCodes.INVALID_CAMPAIGN, "At least one channel must be enabled");
+        }
+        if (verificationCampaignRepository.existsByStatus(VerificationCampaignStatus.RUNNING)) {
+            throw ServiceException.of(UserServiceExceptionReasonCodes.CAMPAIGN_RUNNING, "A verification campaign is already running");
+        }
+
+        VerificationCampaignEntity campaign = new VerificationCampaignEntity();
+        campaign.setSendEmail(sendEmail);
+        campaign.setSendSms(sendSms);
+        campaign.setRatePerSecond(request.getRatePerSecond() != null ? request.getRatePerSecond() : defaultRatePerSecond);
+        campaign.setTotalCandidates(userRepository.countVerificationCandidates());
+
+        try {
+            // The partial unique index on RUNNING settles two concurrent starts
+            verificationCampaignRepository.saveAndFlush(campaign);
+        } catch (DataIntegrityViolationException e) {
+            throw ServiceException.of(UserServiceExceptionReasonCodes.CAMPAIGN_RUNNING, "A verification campaign is already running");
+        }
+
+        log.info("Started verification campaign {} for {} candidates (email: {}, sms: {}, rate: {}/s)",
+                campaign.getUuid(), campaign.getTotalCandidates(), sendEmail, sendSms, campaign.getRatePerSecond());
+        return mapToVerificationCampaign(campaign);
+    }
+
+    @Transactional(readOnly = true)
+    public VerificationCampaign getCampaign(UUID campaignId) {
+        return mapToVerificationCampaign(findCampaign(campaignId));
+    }
+
+    @Transactional
+    public VerificationCampaign cancelCampaign(UUID campaignId) {
+        VerificationCampaignEntity campaign = findCampaign(campaignId);
+        if (campaign.getStatus() == VerificationCampaignStatus.RUNNING) {
+            campaign.setStatus(VerificationCampaignStatus.CANCELLED);
+            campaign.setCompletedAt(Instant.now());
+            verificationCampaignRepository.saveAndFlush(campaign);
+            log.info("Cancelled verification campaign {} after {} users", campaignId, campaign.getProcessed());
+        }
+        return mapToVerificationCampaign(campaign);
+    }
+
+    private VerificationCampaignEntity findCampaign(UUID campaignId) {
+        return verificationCampaignRepository.findByUuid(campaignId)
+                .orElseThrow(() -> ServiceException.of(UserServiceExceptionReasonCodes.CAMPAIGN_NOT_FOUND,
+                        "Verification campaign not found: " + campaignId));
+    }
+
+    private VerificationCampaign mapToVerificationCampaign(VerificationCampaignEntity campaign) {
+        return new VerificationCampaign()
+                .campaignId(campaign.getUuid())
+                .status(VerificationCampaign.StatusEnum.fromValue(campaign.getStatus().name()))
+                .email(campaign.isSendEmail())
+                .sms(campaign.isSendSms())
+                .ratePerSecond(campaign.getRatePerSecond())
+                .totalCandidates(campaign.getTotalCandidates())
+                .processed(campaign.getProcessed())
+                .emailsQueued(campaign.getEmailsQueued())
+                .smsQueued(campaign.getSmsQueued())
+                .lastError(campaign.getLastError())
+                .createdAt(campaign.getCreatedAt() != null ? campaign.getCreatedAt().atOffset(ZoneOffset.UTC) : null)
+                .updatedAt(campaign.getUpdatedAt() != null ? campaign.getUpdatedAt().atOffset(ZoneOffset.UTC) : null)
+                .completedAt(campaign.getCompletedAt() != null ? campaign.getCompletedAt().atOffset(ZoneOffset.UTC) : null);
+    }
+}
@@ -0,0 +1,29 @@
+package com.corems.userms.app.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public class EtagUtils {
+
+    // The view is part of the tag because admins and regular users get different representations
+    public static String userEtag(UUID userId, Instant updatedAt, String view) {
+        String version = userId + ":" + (updatedAt != null ? updatedAt.toEpochMilli() : 0) + ":" + view;
+        return "\"" + HashUtils.sha256Hex(version).substring(0, 32) + "\"";
+    }
+
+    public static boolean isNotModified(String etag) {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return false;
+        }
+        HttpServletRequest request = attributes.getRequest();
+        HttpServletResponse response = attributes.getResponse();
+        return new ServletWebRequest(request, response).checkNotModified(etag);
+    }
+
+}
@@ -0,0 +1,194 @@
+package com.corems.userms.app.controller;
+
+import com.corems.common.security.config.CoremsJwtProperties;
+import com.corems.common.security.service.TokenProvider;
+import com.corems.userms.api.model.JwksResponse;
+import com.corems.userms.api.model.JwksResponseKeysInner;
+import com.corems.userms.api.model.OidcConfiguration;
+import com.corems.userms.app.config.SigningKeyRingProperties;
+import com.corems.userms.app.repository.UserRepository;
+import com.corems.userms.app.security.SigningKeyRing;
+import com.corems.userms.app.service.OidcService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OidcControllerTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TokenProvider tokenProvider;
+
+    @Mock
+    private CoremsJwtProperties jwtProperties;
+
+    private KeyPair previousKey;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair currentKey = generator.generateKeyPair();
+        previousKey = generator.generateKeyPair();
+
+        lenient().when(tokenProvider.getKeyId()).thenReturn("key-2");
+        lenient().when(tokenProvider.getPublicKey()).thenReturn(currentKey.getPublic());
+        lenient().when(tokenProvider.getAlgorithm()).thenReturn("RS256");
+        lenient().when(jwtProperties.getIssuer()).thenReturn("http://localhost:3000");
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void getOidcConfiguration_WhenNoValidator_ShouldReturnDocumentWithPublicCacheControlAndEtag() {
+        // Given
+        OidcService oidcService = oidcService(Instant.now().plusSeconds(3600));
+        OidcController controller = controller(oidcService);
+        bindRequest(null);
+
+        // When
+        ResponseEntity<OidcConfiguration> response = controller.getOidcConfiguration();
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getCacheControl()).isEqualTo("max-age=3600, public");
+        assertThat(response.getHeaders().getETag()).isEqualTo(oidcService.getVersionedDiscoveryDocument().etag());
+        assertThat(response.getBody().getIssuer()).isEqualTo("http://localhost:3000");
+    }
+
+    @Test
+    void getOidcConfiguration_WhenIfNoneMatchMatches_ShouldReturnNotModified() {
+        // Given
+        OidcController controller = controller(oidcService(Instant.now().plusSeconds(3600)));
+        bindRequest(null);
+        String etag = controller.getOidcConfiguration().getHeaders().getETag();
+        bindRequest(etag);
+
+        // When
+        ResponseEntity<OidcConfiguration> response = controller.getOidcConfiguration();
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getHeaders().getETag()).isEqualTo(etag);
+        assertThat(response.getHeaders().getCacheControl()).isEqualTo("max-age=3600, public");
+        assertThat(response.getBody()).isNull();
+    }
+
+    @Test
+    void getJwks_WhenNoValidator_ShouldReturnKeysWithShortPublicCacheControlAndEtag() {
+        // Given
+        OidcService oidcService = oidcService(Instant.now().plusSeconds(3600));
+        OidcController controller = controller(oidcService);
+        bindRequest(null);
+
+        // When
+        ResponseEntity<JwksResponse> response = controller.getJwks();
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getCacheControl()).isEqualTo("max-age=300, public");
+        assertThat(response.getHeaders().getETag()).isEqualTo(oidcService.getVersionedJwks().etag());
+        assertThat(response.getBody().getKeys()).extracting(JwksResponseKeysInner::getKid)
+                .containsExactly("key-2", "key-1");
+    }
+
+    @Test
+    void getJwks_WhenIfNoneMatchMatches_ShouldReturnNotModified() {
+        // Given
+        OidcController controller = controller(oidcService(Instant.now().plusSeconds(3600)));
+        bindRequest(null);
+        String etag = controller.getJwks().getHeaders().getETag();
+        bindRequest(etag);
+
+        // When
+        ResponseEntity<JwksResponse> response = controller.getJwks();
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getHeaders().getETag()).isEqualTo(etag);
+        assertThat(response.getBody()).isNull();
+    }
+
+    @Test
+    void getJwks_WhenRingKeyPruned_ShouldServeNewEtagToRevalidatingClients() throws Exception {
+        // Given
+        OidcService oidcService = oidcService(Instant.now().plusMillis(500));
+        OidcController controller = controller(oidcService);
+        bindRequest(null);
+        ResponseEntity<JwksResponse> before = controller.getJwks();
+        assertThat(before.getBody().getKeys()).hasSize(2);
+
+        // When
+        Thread.sleep(600);
+        oidcService.pruneRetiredSigningKeys();
+        bindRequest(before.getHeaders().getETag());
+        ResponseEntity<JwksResponse> after = controller.getJwks();
+
+        // Then
+        assertThat(after.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(after.getHeaders().getETag()).isNotEqualTo(before.getHeaders().getETag());
+        assertThat(after.getBody().getKeys()).extracting(JwksResponseKeysInner::getKid).containsExactly("key-2");
+    }
+
+    private OidcService oidcService(Instant previousKeyNotAfter) {
+        SigningKeyRing signingKeyRing = new SigningKeyRing(tokenProvider, jwtProperties, properties(previousKeyNotAfter));
+        OidcService oidcService = new OidcService(userRepository, tokenProvider, jwtProperties, new ObjectMapper(),
+                signingKeyRing);
+        oidcService.refreshPublishedDocuments();
+        return oidcService;
+    }
+
+    private static OidcController controller(OidcService oidcService) {
+        OidcController controller = new OidcController(oidcService);
+        ReflectionTestUtils.setField(controller, "discoveryMaxAge", Duration.ofHours(1));
+        ReflectionTestUtils.setField(controller, "jwksMaxAge", Duration.ofMinutes(5));
+        return controller;
+    }
+
+    private static void bindRequest(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/.well-known/jwks.json");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, new MockHttpServletResponse()));
+    }
+
+    private SigningKeyRingProperties properties(Instant notAfter) {
+        SigningKeyRingProperties.VerificationKey key = new SigningKeyRingProperties.VerificationKey();
+        key.setKid("key-1");
+        key.setPublicKey(Base64.getEncoder().encodeToString(previousKey.getPublic().getEncoded()));
+        key.setNotAfter(notAfter);
+
+        SigningKeyRingProperties properties = new SigningKeyRingProperties();
+        properties.setVerificationKeys(List.of(key));
+        return properties;
+    }
+}
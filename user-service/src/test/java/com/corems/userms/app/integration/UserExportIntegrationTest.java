@@ -0,0 +1,172 @@
+package com.corems.userms.app.integration;
+
+import com.corems.userms.ApiClient;
+import com.corems.userms.api.model.OAuth2TokenResponse;
+import com.corems.userms.api.model.SignUpRequest;
+import com.corems.userms.app.config.UserServiceProperties;
+import com.corems.userms.client.OAuth2Api;
+import com.corems.userms.client.RegistrationApi;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Export page size is shrunk so the users span several chunks and each chunk loads its own roles
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "app.users.export.fetch-size=2")
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class UserExportIntegrationTest {
+
+    private static final int USER_COUNT = 5;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ApiClient apiClient;
+    @Autowired
+    private RegistrationApi registrationApi;
+    @Autowired
+    private OAuth2Api oauth2Api;
+    @Autowired
+    private UserServiceProperties userServiceProperties;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private RestClient restClient;
+    private List<String> emails;
+    private String adminToken;
+
+    @BeforeEach
+    void setUp() {
+        apiClient.setBasePath("http://localhost:" + port);
+        restClient = RestClient.create("http://localhost:" + port);
+
+        String run = String.valueOf(System.nanoTime());
+        emails = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            String email = "export" + i + "-" + run + "@example.com";
+            registrationApi.signUp(signUpRequest(email));
+            emails.add(email);
+        }
+        adminToken = authenticate(emails.getFirst());
+    }
+
+    @Test
+    void exportUsers_WhenNdjson_ShouldStreamEveryUserWithRoles() throws Exception {
+        ResponseEntity<String> response = export("ndjson", adminToken);
+
+        assertThat(response.getHeaders().getContentType()).hasToString("application/x-ndjson");
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION)).contains("users.ndjson");
+
+        Map<String, JsonNode> exported = new HashMap<>();
+        for (String line : response.getBody().split("\n")) {
+            JsonNode user = objectMapper.readTree(line);
+            exported.put(user.get("email").asText(), user);
+        }
+
+        assertThat(exported).containsKeys(emails.toArray(String[]::new));
+        for (String email : emails) {
+            JsonNode roles = exported.get(email).get("roles");
+            assertThat(roles).isNotNull();
+            assertThat(roles.toString()).contains("SUPER_ADMIN");
+        }
+    }
+
+    @Test
+    void exportUsers_WhenCsv_ShouldStreamHeaderAndEveryUserWithRoles() {
+        ResponseEntity<String> response = export("csv", adminToken);
+
+        assertThat(response.getHeaders().getContentType()).hasToString("text/csv");
+
+        List<String> lines = response.getBody().lines().toList();
+        assertThat(lines.getFirst()).startsWith("userId,email,firstName,lastName");
+
+        Map<String, String[]> exported = lines.stream()
+                .skip(1)
+                .map(line -> line.split(",", -1))
+                .collect(Collectors.toMap(fields -> fields[1], Function.identity()));
+
+        assertThat(exported).containsKeys(emails.toArray(String[]::new));
+        for (String email : emails) {
+            String[] fields = exported.get(email);
+            assertThat(fields).hasSize(13);
+            assertThat(Arrays.asList(fields[9].split(";"))).contains("SUPER_ADMIN");
+        }
+    }
+
+    @Test
+    void exportUsers_WhenNotAdmin_ShouldReturn403() {
+        String nonAdminEmail = "export-user-" + System.nanoTime() + "@example.com";
+        List<String> defaultRoles = userServiceProperties.getDefaultRoles();
+        userServiceProperties.setDefaultRoles(List.of("USER_MS_USER"));
+        try {
+            registrationApi.signUp(signUpRequest(nonAdminEmail));
+        } finally {
+            userServiceProperties.setDefaultRoles(defaultRoles);
+        }
+        String userToken = authenticate(nonAdminEmail);
+
+        assertThatThrownBy(() -> export("ndjson", userToken))
+            .isInstanceOf(RestClientResponseException.class)
+            .satisfies(ex -> assertThat(((RestClientResponseException) ex).getStatusCode().value()).isEqualTo(403));
+    }
+
+    @Test
+    void exportUsers_WhenNotAuthenticated_ShouldReturn401() {
+        assertThatThrownBy(() -> restClient.get().uri("/api/users/export").retrieve().toEntity(String.class))
+            .isInstanceOf(RestClientResponseException.class)
+            .satisfies(ex -> assertThat(((RestClientResponseException) ex).getStatusCode().value()).isEqualTo(401));
+    }
+
+    private ResponseEntity<String> export(String format, String accessToken) {
+        return restClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/api/users/export").queryParam("format", format).build())
+                .headers(headers -> headers.setBearerAuth(accessToken))
+                .retrieve()
+                .toEntity(String.class);
+    }
+
+    private String authenticate(String email) {
+        OAuth2TokenResponse tokenResponse = oauth2Api.token(
+            "password",
+            email,
+            "TestPassword123!",
+            null, null, null, null,
+            "openid profile email",
+            null
+        );
+        return tokenResponse.getAccessToken();
+    }
+
+    private static SignUpRequest signUpRequest(String email) {
+        SignUpRequest request = new SignUpRequest();
+        request.setEmail(email);
+        request.setPassword("TestPassword123!");
+        request.setConfirmPassword("TestPassword123!");
+        request.setFirstName("Export");
+        request.setLastName("User");
+        return request;
+    }
+}
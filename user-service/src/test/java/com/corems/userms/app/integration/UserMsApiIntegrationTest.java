@@ -11,6 +11,8 @@ import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.web.client.RestClientResponseException;
 
+import java.util.List;
+import java.util.UUID;
 
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -225,6 +227,41 @@ class UserMsApiIntegrationTest {
         assertThat(response.getAccessToken()).isNotEqualTo(tokenResponse.getAccessToken());
     }
 
+    @Test
+    @Order(15)
+    @DirtiesContext
+    void refreshToken_WhenRotatedTokenReused_ShouldRevokeTokenFamily() {
+        OAuth2TokenResponse tokenResponse = createUserAndAuthenticate();
+
+        apiClient.setBearerToken((String) null);
+
+        OAuth2TokenResponse rotated = oauth2Api.token(
+            "refresh_token",
+            null, null, null, null, null,
+            tokenResponse.getRefreshToken(),
+            null, null
+        );
+        assertThat(rotated.getRefreshToken()).isNotEqualTo(tokenResponse.getRefreshToken());
+
+        assertThatThrownBy(() -> oauth2Api.token(
+            "refresh_token",
+            null, null, null, null, null,
+            tokenResponse.getRefreshToken(),
+            null, null
+        ))
+            .isInstanceOf(RestClientResponseException.class)
+            .satisfies(ex -> assertThat(((RestClientResponseException) ex).getStatusCode().value()).isEqualTo(400));
+
+        assertThatThrownBy(() -> oauth2Api.token(
+            "refresh_token",
+            null, null, null, null, null,
+            rotated.getRefreshToken(),
+            null, null
+        ))
+            .isInstanceOf(RestClientResponseException.class)
+            .satisfies(ex -> assertThat(((RestClientResponseException) ex).getStatusCode().value()).isEqualTo(400));
+    }
+
     @Test
     @Order(14)
     @DirtiesContext
@@ -243,7 +280,7 @@ class UserMsApiIntegrationTest {
     void getAllUsers_WhenAuthenticated_ShouldReturnUsersList() {
         createUserAndAuthenticate();
 
-        UsersPagedResponse response = adminApi.getAllUsers(1, 10, null, null, null);
+        UsersPagedResponse response = adminApi.getAllUsers(1, 10, null, null, null, null, null);
 
         assertThat(response).isNotNull();
         assertThat(response.getItems()).isNotEmpty();
@@ -253,6 +290,26 @@ class UserMsApiIntegrationTest {
     @Test
     @Order(21)
     @DirtiesContext
+    void getAllUsers_WhenCursorPagination_ShouldReturnNextCursorWithoutTotals() {
+        createUserAndAuthenticate();
+        signUpRequest.setEmail("second" + testEmail);
+        registrationApi.signUp(signUpRequest);
+
+        UsersPagedResponse firstPage = adminApi.getAllUsers(null, 1, null, null, null, null, false);
+
+        assertThat(firstPage.getItems()).hasSize(1);
+        assertThat(firstPage.getTotalElements()).isNull();
+        assertThat(firstPage.getNextCursor()).isNotNull();
+
+        UsersPagedResponse secondPage = adminApi.getAllUsers(null, 1, null, null, null, firstPage.getNextCursor(), null);
+
+        assertThat(secondPage.getItems()).hasSize(1);
+        assertThat(secondPage.getItems().getFirst().getUserId()).isNotEqualTo(firstPage.getItems().getFirst().getUserId());
+    }
+
+    @Test
+    @Order(22)
+    @DirtiesContext
     void getUserById_WhenValidId_ShouldReturnUser() {
         createUserAndAuthenticate();
         OidcUserInfo currentUser = oidcApi.getUserInfo();
@@ -263,6 +320,20 @@ class UserMsApiIntegrationTest {
         assertThat(userInfo.getEmail()).isEqualTo(testEmail);
     }
 
+    @Test
+    @Order(23)
+    @DirtiesContext
+    void batchGetUsers_WhenSomeIdsUnknown_ShouldReturnOnlyExistingUsers() {
+        createUserAndAuthenticate();
+        OidcUserInfo currentUser = oidcApi.getUserInfo();
+
+        BatchGetUsersResponse response = adminApi.batchGetUsers(new BatchGetUsersRequest()
+                .userIds(List.of(currentUser.getSub(), UUID.randomUUID())));
+
+        assertThat(response.getItems()).hasSize(1);
+        assertThat(response.getItems().getFirst().getUserId()).isEqualTo(currentUser.getSub());
+    }
+
     @Test
     @Order(30)
     void apiCalls_WhenNotAuthenticated_ShouldReturn401() {
@@ -270,7 +341,7 @@ class UserMsApiIntegrationTest {
             .isInstanceOf(RestClientResponseException.class)
             .satisfies(ex -> assertThat(((RestClientResponseException) ex).getStatusCode().value()).isEqualTo(401));
 
-        assertThatThrownBy(() -> adminApi.getAllUsers(1, 10, null, null, null))
+        assertThatThrownBy(() -> adminApi.getAllUsers(1, 10, null, null, null, null, null))
             .isInstanceOf(RestClientResponseException.class)
             .satisfies(ex -> assertThat(((RestClientResponseException) ex).getStatusCode().value()).isEqualTo(401));
     }
@@ -0,0 +1,94 @@
+package com.corems.userms.app.repository;
+
+import com.corems.common.security.CoreMsRoles;
+import com.corems.common.utils.db.utils.QueryParams;
+import com.corems.userms.app.entity.RoleEntity;
+import com.corems.userms.app.entity.UserEntity;
+import com.corems.userms.app.model.ExistingUserKeys;
+import com.corems.userms.app.model.enums.AuthProvider;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class UserRepositoryQueryCountTest {
+
+    private static final int PAGE_SIZE = 50;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        if (userRepository.count() < PAGE_SIZE) {
+            for (int i = 0; i < PAGE_SIZE; i++) {
+                UserEntity user = UserEntity.builder()
+                        .email("query-count-" + i + "@example.com")
+                        .firstName("Query")
+                        .lastName("Count" + i)
+                        .provider(AuthProvider.local.name())
+                        .roles(new ArrayList<>())
+                        .build();
+                user.getRoles().add(new RoleEntity(CoreMsRoles.USER_MS_USER, user));
+                userRepository.save(user);
+            }
+        }
+    }
+
+    @Test
+    void findAllByQueryParams_WhenPageHasManyUsers_ShouldNotLoadRolesPerUser() {
+        // Given
+        QueryParams params = new QueryParams(Optional.of(1), Optional.of(PAGE_SIZE), Optional.empty(),
+                Optional.of("createdAt:desc"), Optional.empty());
+        statistics.clear();
+
+        // When
+        Page<UserEntity> page = userRepository.findAllByQueryParams(params);
+        List<String> roles = page.getContent().stream()
+                .flatMap(user -> user.getRoles().stream())
+                .map(RoleEntity::getName)
+                .toList();
+
+        // Then
+        assertThat(page.getContent()).hasSize(PAGE_SIZE);
+        assertThat(roles).isNotEmpty();
+        // page select + count + one batched role select
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void findExistingUserKeys_WhenEmailTaken_ShouldUseSingleStatementWithoutRoles() {
+        // Given
+        statistics.clear();
+
+        // When
+        List<ExistingUserKeys> existing = userRepository.findExistingUserKeys("query-count-0@example.com", null);
+
+        // Then
+        assertThat(existing).extracting(ExistingUserKeys::email).containsExactly("query-count-0@example.com");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+}
@@ -0,0 +1,110 @@
+package com.corems.userms.app.security;
+
+import com.corems.common.exception.ServiceException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PasswordHashingExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PasswordHashingExecutor hashingExecutor;
+    private ExecutorService callers;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        hashingExecutor = new PasswordHashingExecutor(meterRegistry, 1, 1, 2);
+        callers = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        callers.shutdownNow();
+        hashingExecutor.shutdown();
+    }
+
+    @Test
+    void execute_WhenWorkerBusyAndQueueFull_ShouldRejectWithRetryAfter() throws Exception {
+        // Given
+        CountDownLatch workerStarted = new CountDownLatch(1);
+        CountDownLatch releaseWorker = new CountDownLatch(1);
+        Future<String> running = callers.submit(() -> hashingExecutor.execute("encode", () -> {
+            workerStarted.countDown();
+            await(releaseWorker);
+            return "first";
+        }));
+        assertThat(workerStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<String> queued = callers.submit(() -> hashingExecutor.execute("encode", () -> "second"));
+        awaitQueueDepth(1);
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest(), response));
+
+        // When / Then
+        assertThatThrownBy(() -> hashingExecutor.execute("matches", () -> true))
+                .isInstanceOf(ServiceException.class)
+                .satisfies(throwable -> {
+                    ServiceException exception = (ServiceException) throwable;
+                    assertThat(exception.getErrors()).isNotEmpty();
+                    assertThat(exception.getErrors().get(0).getDetails()).contains("retry later");
+                });
+        assertThat(response.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(meterRegistry.get("user.password.hashing.rejected").counter().count()).isEqualTo(1.0);
+
+        releaseWorker.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("second");
+    }
+
+    @Test
+    void execute_WhenCalledRepeatedly_ShouldReuseOneTimerPerOperation() {
+        // When
+        for (int i = 0; i < 3; i++) {
+            hashingExecutor.execute("encode", () -> "hash");
+            hashingExecutor.execute("matches", () -> true);
+        }
+
+        // Then
+        assertThat(meterRegistry.get("user.password.hashing.duration").timers()).hasSize(2);
+        assertThat(meterRegistry.get("user.password.hashing.duration").tag("operation", "encode").timer().count())
+                .isEqualTo(3);
+    }
+
+    @Test
+    void execute_WhenTaskThrows_ShouldRethrowToCaller() {
+        assertThatThrownBy(() -> hashingExecutor.execute("encode", () -> {
+            throw new IllegalArgumentException("bad password");
+        })).isInstanceOf(IllegalArgumentException.class).hasMessage("bad password");
+    }
+
+    private void awaitQueueDepth(int depth) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("user.password.hashing.queue.depth").gauge().value() < depth) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.corems.userms.app.security;
+
+import com.corems.common.security.config.CoremsJwtProperties;
+import com.corems.common.security.service.TokenProvider;
+import com.corems.userms.app.config.SigningKeyRingProperties;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SigningKeyRingTest {
+
+    @Mock
+    private TokenProvider tokenProvider;
+
+    @Mock
+    private CoremsJwtProperties jwtProperties;
+
+    private KeyPair currentKey;
+    private KeyPair previousKey;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        currentKey = generator.generateKeyPair();
+        previousKey = generator.generateKeyPair();
+
+        lenient().when(tokenProvider.getKeyId()).thenReturn("key-2");
+        lenient().when(tokenProvider.getPublicKey()).thenReturn(currentKey.getPublic());
+        lenient().when(jwtProperties.getIssuer()).thenReturn("corems");
+    }
+
+    @Test
+    void findVerificationParser_WhenTokenSignedByPreviousKey_ShouldVerifyIt() {
+        // Given
+        SigningKeyRing ring = new SigningKeyRing(tokenProvider, jwtProperties, properties(Instant.now().plusSeconds(3600)));
+        String token = Jwts.builder()
+                .header().keyId("key-1").and()
+                .issuer("corems")
+                .subject("user")
+                .signWith(previousKey.getPrivate())
+                .compact();
+
+        // When
+        Claims claims = ring.findVerificationParser("key-1").orElseThrow()
+                .parseSignedClaims(token)
+                .getPayload();
+
+        // Then
+        assertThat(claims.getSubject()).isEqualTo("user");
+        assertThat(ring.getPublishedKeys()).containsOnlyKeys("key-2", "key-1");
+    }
+
+    @Test
+    void pruneExpired_WhenOverlapWindowPassed_ShouldDropKey() {
+        // Given
+        SigningKeyRing ring = new SigningKeyRing(tokenProvider, jwtProperties, properties(Instant.now().minusSeconds(1)));
+
+        // When
+        boolean changed = ring.pruneExpired();
+
+        // Then
+        assertThat(changed).isTrue();
+        assertThat(ring.findVerificationParser("key-1")).isEmpty();
+        assertThat(ring.getPublishedKeys()).containsOnlyKeys("key-2");
+        assertThat(ring.pruneExpired()).isFalse();
+    }
+
+    private SigningKeyRingProperties properties(Instant notAfter) {
+        SigningKeyRingProperties.VerificationKey key = new SigningKeyRingProperties.VerificationKey();
+        key.setKid("key-1");
+        key.setPublicKey(Base64.getEncoder().encodeToString(previousKey.getPublic().getEncoded()));
+        key.setNotAfter(notAfter);
+
+        SigningKeyRingProperties properties = new SigningKeyRingProperties();
+        properties.setVerificationKeys(List.of(key));
+        return properties;
+    }
+}
@@ -0,0 +1,217 @@
+package com.corems.userms.app.security;
+
+import com.corems.common.exception.ServiceException;
+import com.corems.common.security.CoreMsRoles;
+import com.corems.common.security.UserPrincipal;
+import com.corems.common.security.service.TokenProvider;
+import com.corems.userms.app.config.TrustClaimsProperties;
+import com.corems.userms.app.entity.RoleEntity;
+import com.corems.userms.app.entity.UserEntity;
+import com.corems.userms.app.repository.UserRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenAuthenticationFilterTest {
+
+    private static final String TOKEN = "access-token";
+
+    @Mock
+    private TokenClaimsVerifier tokenClaimsVerifier;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private TrustClaimsProperties trustClaimsProperties;
+
+    private TokenAuthenticationFilter filter;
+
+    private final UUID userId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        trustClaimsProperties = new TrustClaimsProperties();
+        trustClaimsProperties.setEnabled(true);
+        UserPrincipalCache principalCache = new UserPrincipalCache(new SimpleMeterRegistry(), true, 100, 60);
+        filter = new TokenAuthenticationFilter(tokenClaimsVerifier,
+                new CustomUserDetailsService(userRepository, principalCache), trustClaimsProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void doFilter_WhenClaimsTrustedAndComplete_ShouldBuildPrincipalWithoutDatabase() throws Exception {
+        // Given
+        when(tokenClaimsVerifier.verify(TOKEN)).thenReturn(Optional.of(claims(true, true)));
+
+        // When
+        UserPrincipal principal = authenticate("/api/profile");
+
+        // Then
+        assertThat(principal.getUserId()).isEqualTo(userId);
+        assertThat(principal.getEmail()).isEqualTo("claims@example.com");
+        assertThat(principal.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly(CoreMsRoles.USER_MS_USER.name());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void doFilter_WhenRolesClaimMissing_ShouldLoadUserFromDatabase() throws Exception {
+        // Given
+        when(tokenClaimsVerifier.verify(TOKEN)).thenReturn(Optional.of(claims(true, false)));
+        when(userRepository.findByUuid(userId)).thenReturn(Optional.of(user("db@example.com", CoreMsRoles.USER_MS_ADMIN)));
+
+        // When
+        UserPrincipal principal = authenticate("/api/profile");
+
+        // Then
+        assertThat(principal.getEmail()).isEqualTo("db@example.com");
+        verify(userRepository).findByUuid(userId);
+    }
+
+    @Test
+    void doFilter_WhenEmailClaimMissing_ShouldLoadUserFromDatabase() throws Exception {
+        // Given
+        when(tokenClaimsVerifier.verify(TOKEN)).thenReturn(Optional.of(claims(false, true)));
+        when(userRepository.findByUuid(userId)).thenReturn(Optional.of(user("db@example.com", CoreMsRoles.USER_MS_USER)));
+
+        // When
+        UserPrincipal principal = authenticate("/api/profile");
+
+        // Then
+        assertThat(principal.getEmail()).isEqualTo("db@example.com");
+    }
+
+    @Test
+    void doFilter_WhenRevocationPath_ShouldReadChangedRolesOnEveryRequest() throws Exception {
+        // Given
+        when(tokenClaimsVerifier.verify(TOKEN)).thenReturn(Optional.of(claims(true, true)));
+        when(userRepository.findByUuid(userId))
+                .thenReturn(Optional.of(user("db@example.com", CoreMsRoles.USER_MS_ADMIN)))
+                .thenReturn(Optional.of(user("db@example.com", CoreMsRoles.USER_MS_USER)));
+
+        // When
+        UserPrincipal first = authenticate("/api/users/" + UUID.randomUUID());
+        SecurityContextHolder.clearContext();
+        UserPrincipal second = authenticate("/api/users/" + UUID.randomUUID());
+
+        // Then
+        assertThat(first.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly(CoreMsRoles.USER_MS_ADMIN.name());
+        assertThat(second.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly(CoreMsRoles.USER_MS_USER.name());
+        verify(userRepository, times(2)).findByUuid(userId);
+    }
+
+    @Test
+    void doFilter_WhenRevocationPathAndUserDeleted_ShouldReject() {
+        // Given
+        when(tokenClaimsVerifier.verify(TOKEN)).thenReturn(Optional.of(claims(true, true)));
+        when(userRepository.findByUuid(userId)).thenReturn(Optional.empty());
+        MockFilterChain chain = new MockFilterChain();
+
+        // When / Then
+        assertThatThrownBy(() -> filter.doFilter(request("/api/users"), new MockHttpServletResponse(), chain))
+                .isInstanceOf(ServiceException.class);
+        assertThat(chain.getRequest()).isNull();
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void doFilter_WhenRevocationPathsOverridden_ShouldUseConfiguredPaths() throws Exception {
+        // Given
+        trustClaimsProperties.setRevocationCheckPaths(List.of("/api/admin/**"));
+        when(tokenClaimsVerifier.verify(TOKEN)).thenReturn(Optional.of(claims(true, true)));
+
+        // When
+        UserPrincipal principal = authenticate("/api/users/" + UUID.randomUUID());
+
+        // Then
+        assertThat(principal.getEmail()).isEqualTo("claims@example.com");
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void trustClaimsProperties_WhenPathsGivenAsYamlList_ShouldBindEveryEntry() {
+        // Given
+        MapConfigurationPropertySource source = new MapConfigurationPropertySource(Map.of(
+                "app.security.trust-claims.enabled", "true",
+                "app.security.trust-claims.revocation-check-paths[0]", "/api/users/**",
+                "app.security.trust-claims.revocation-check-paths[1]", "/api/admin/**"));
+
+        // When
+        TrustClaimsProperties bound = new Binder(source)
+                .bind("app.security.trust-claims", TrustClaimsProperties.class)
+                .get();
+
+        // Then
+        assertThat(bound.isEnabled()).isTrue();
+        assertThat(bound.getRevocationCheckPaths()).containsExactly("/api/users/**", "/api/admin/**");
+    }
+
+    private UserPrincipal authenticate(String path) throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request(path), new MockHttpServletResponse(), chain);
+        assertThat(chain.getRequest()).isNotNull();
+        return (UserPrincipal) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+    }
+
+    private static MockHttpServletRequest request(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.addHeader("Authorization", "Bearer " + TOKEN);
+        return request;
+    }
+
+    private Claims claims(boolean withEmail, boolean withRoles) {
+        var builder = Jwts.claims()
+                .subject(userId.toString())
+                .add(TokenProvider.CLAIM_TOKEN_ID, UUID.randomUUID().toString())
+                .add(TokenProvider.CLAIM_FIRST_NAME, "Claims")
+                .add(TokenProvider.CLAIM_LAST_NAME, "User");
+        if (withEmail) {
+            builder.add(TokenProvider.CLAIM_EMAIL, "claims@example.com");
+        }
+        if (withRoles) {
+            builder.add(TokenProvider.CLAIM_ROLES, List.of(CoreMsRoles.USER_MS_USER.name()));
+        }
+        return builder.build();
+    }
+
+    private UserEntity user(String email, CoreMsRoles role) {
+        UserEntity user = UserEntity.builder()
+                .uuid(userId)
+                .email(email)
+                .firstName("Db")
+                .lastName("User")
+                .roles(new ArrayList<>())
+                .build();
+        user.getRoles().add(new RoleEntity(role, user));
+        return user;
+    }
+}
@@ -0,0 +1,208 @@
+package com.corems.userms.app.security;
+
+import com.corems.common.security.service.TokenProvider;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenClaimsVerifierTest {
+
+    private static final String CURRENT_KID = "key-2";
+    private static final String PREVIOUS_KID = "key-1";
+
+    @Mock
+    private TokenProvider tokenProvider;
+
+    @Mock
+    private SigningKeyRing signingKeyRing;
+
+    private final AtomicLong tickerNanos = new AtomicLong();
+
+    private TokenClaimsVerifier verifier;
+
+    private KeyPair previousKey;
+    private KeyPair otherKey;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        previousKey = generator.generateKeyPair();
+        otherKey = generator.generateKeyPair();
+
+        lenient().when(signingKeyRing.getCurrentKeyId()).thenReturn(CURRENT_KID);
+        verifier = new TokenClaimsVerifier(tokenProvider, signingKeyRing, new ObjectMapper(),
+                new SimpleMeterRegistry(), 100, 30, tickerNanos::get);
+    }
+
+    @Test
+    void verify_WhenCalledTwiceForSameToken_ShouldParseOnce() {
+        // Given
+        String token = headerOnlyToken(CURRENT_KID);
+        when(tokenProvider.getAllClaims(token)).thenReturn(claimsExpiringIn(Duration.ofMinutes(10)));
+
+        // When
+        Optional<Claims> first = verifier.verify(token);
+        Optional<Claims> second = verifier.verify(token);
+
+        // Then
+        assertThat(first).isPresent();
+        assertThat(second).containsSame(first.get());
+        verify(tokenProvider, times(1)).getAllClaims(token);
+    }
+
+    @Test
+    void verify_WhenTokenExpiresBeforeCacheTtl_ShouldDropEntryAtTokenExpiry() {
+        // Given
+        String token = headerOnlyToken(CURRENT_KID);
+        when(tokenProvider.getAllClaims(token)).thenReturn(claimsExpiringIn(Duration.ofSeconds(5)));
+        verifier.verify(token);
+
+        // When
+        tickerNanos.addAndGet(Duration.ofSeconds(6).toNanos());
+        verifier.verify(token);
+
+        // Then
+        verify(tokenProvider, times(2)).getAllClaims(token);
+    }
+
+    @Test
+    void verify_WhenTokenOutlivesCacheTtl_ShouldDropEntryAtTtl() {
+        // Given
+        String token = headerOnlyToken(CURRENT_KID);
+        when(tokenProvider.getAllClaims(token)).thenReturn(claimsExpiringIn(Duration.ofMinutes(10)));
+        verifier.verify(token);
+
+        // When
+        tickerNanos.addAndGet(Duration.ofSeconds(29).toNanos());
+        verifier.verify(token);
+        tickerNanos.addAndGet(Duration.ofSeconds(2).toNanos());
+        verifier.verify(token);
+
+        // Then
+        verify(tokenProvider, times(2)).getAllClaims(token);
+    }
+
+    @Test
+    void verify_WhenCachedTokenHasExpired_ShouldReject() throws Exception {
+        // Given
+        String token = headerOnlyToken(CURRENT_KID);
+        when(tokenProvider.getAllClaims(token)).thenReturn(claimsExpiringIn(Duration.ofMillis(300)));
+        assertThat(verifier.verify(token)).isPresent();
+
+        // When
+        // The cache ticker stands still, so only the exp check can reject the entry
+        Thread.sleep(400);
+        Optional<Claims> claims = verifier.verify(token);
+
+        // Then
+        assertThat(claims).isEmpty();
+        verify(tokenProvider, times(1)).getAllClaims(token);
+    }
+
+    @Test
+    void verify_WhenSignatureInvalid_ShouldNotCacheFailure() {
+        // Given
+        when(signingKeyRing.findVerificationParser(PREVIOUS_KID)).thenReturn(Optional.of(parserFor(previousKey)));
+        String forged = signedToken(PREVIOUS_KID, otherKey);
+
+        // When
+        Optional<Claims> first = verifier.verify(forged);
+        Optional<Claims> second = verifier.verify(forged);
+
+        // Then
+        assertThat(first).isEmpty();
+        assertThat(second).isEmpty();
+        verify(signingKeyRing, times(2)).findVerificationParser(PREVIOUS_KID);
+    }
+
+    @Test
+    void verify_WhenKidIsRingKey_ShouldUseRingParser() {
+        // Given
+        when(signingKeyRing.findVerificationParser(PREVIOUS_KID)).thenReturn(Optional.of(parserFor(previousKey)));
+
+        // When
+        Optional<Claims> claims = verifier.verify(signedToken(PREVIOUS_KID, previousKey));
+
+        // Then
+        assertThat(claims).map(Claims::getSubject).contains("user-1");
+        verifyNoInteractions(tokenProvider);
+    }
+
+    @Test
+    void verify_WhenKidUnknownToRing_ShouldFallBackToTokenProvider() {
+        // Given
+        String token = headerOnlyToken("key-9");
+        when(signingKeyRing.findVerificationParser("key-9")).thenReturn(Optional.empty());
+        when(tokenProvider.getAllClaims(token)).thenReturn(claimsExpiringIn(Duration.ofMinutes(10)));
+
+        // When
+        Optional<Claims> claims = verifier.verify(token);
+
+        // Then
+        assertThat(claims).isPresent();
+        verify(tokenProvider).getAllClaims(token);
+    }
+
+    @Test
+    void verify_WhenKidIsCurrentKey_ShouldSkipRingLookup() {
+        // Given
+        String token = headerOnlyToken(CURRENT_KID);
+        when(tokenProvider.getAllClaims(token)).thenReturn(claimsExpiringIn(Duration.ofMinutes(10)));
+
+        // When
+        verifier.verify(token);
+
+        // Then
+        verify(signingKeyRing, never()).findVerificationParser(anyString());
+    }
+
+    private static Claims claimsExpiringIn(Duration remaining) {
+        return Jwts.claims()
+                .subject("user-1")
+                .expiration(Date.from(Instant.now().plus(remaining)))
+                .build();
+    }
+
+    // TokenProvider is mocked, so only the header has to be readable
+    private static String headerOnlyToken(String kid) {
+        String header = "{\"alg\":\"RS256\",\"kid\":\"" + kid + "\"}";
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(header.getBytes(StandardCharsets.UTF_8))
+                + ".e30.signature-" + System.nanoTime();
+    }
+
+    private static String signedToken(String kid, KeyPair keyPair) {
+        return Jwts.builder()
+                .header().keyId(kid).and()
+                .subject("user-1")
+                .expiration(Date.from(Instant.now().plusSeconds(600)))
+                .signWith(keyPair.getPrivate())
+                .compact();
+    }
+
+    private static JwtParser parserFor(KeyPair keyPair) {
+        return Jwts.parser().verifyWith(keyPair.getPublic()).build();
+    }
+}
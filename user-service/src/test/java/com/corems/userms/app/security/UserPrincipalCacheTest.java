@@ -0,0 +1,148 @@
+package com.corems.userms.app.security;
+
+import com.corems.common.security.CoreMsRoles;
+import com.corems.common.security.UserPrincipal;
+import com.corems.userms.app.entity.RoleEntity;
+import com.corems.userms.app.entity.UserEntity;
+import com.corems.userms.app.repository.UserRepository;
+import com.corems.userms.app.security.UserPrincipalCache.CachedPrincipal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserPrincipalCacheTest {
+
+    private static final long TTL_SECONDS = 60;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private final AtomicLong tickerNanos = new AtomicLong();
+
+    private final UUID userId = UUID.randomUUID();
+
+    @Test
+    void get_WhenCalledTwice_ShouldLoadOnce() {
+        // Given
+        UserPrincipalCache cache = cache(true);
+        AtomicInteger loads = new AtomicInteger();
+        Function<UUID, CachedPrincipal> loader = countingLoader(loads);
+
+        // When
+        CachedPrincipal first = cache.get(userId, loader);
+        CachedPrincipal second = cache.get(userId, loader);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void get_WhenInvalidated_ShouldLoadAgain() {
+        // Given
+        UserPrincipalCache cache = cache(true);
+        AtomicInteger loads = new AtomicInteger();
+        Function<UUID, CachedPrincipal> loader = countingLoader(loads);
+        cache.get(userId, loader);
+
+        // When
+        cache.invalidate(userId);
+        cache.get(userId, loader);
+
+        // Then
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void get_WhenDisabled_ShouldCallLoaderEveryTime() {
+        // Given
+        UserPrincipalCache cache = cache(false);
+        AtomicInteger loads = new AtomicInteger();
+        Function<UUID, CachedPrincipal> loader = countingLoader(loads);
+
+        // When
+        cache.get(userId, loader);
+        cache.get(userId, loader);
+        cache.get(userId, loader);
+
+        // Then
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void invalidate_WhenUserIdNull_ShouldIgnore() {
+        UserPrincipalCache cache = cache(true);
+
+        assertThatCode(() -> cache.invalidate(null)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void loadUserById_WhenCalledWithinTtl_ShouldHitRepositoryOnce() {
+        // Given
+        when(userRepository.findByUuid(userId)).thenReturn(Optional.of(user()));
+        CustomUserDetailsService userDetailsService = new CustomUserDetailsService(userRepository, cache(true));
+
+        // When
+        UserPrincipal first = userDetailsService.loadUserById(userId, UUID.randomUUID());
+        tickerNanos.addAndGet(Duration.ofSeconds(TTL_SECONDS - 1).toNanos());
+        UserPrincipal second = userDetailsService.loadUserById(userId, UUID.randomUUID());
+
+        // Then
+        assertThat(second.getEmail()).isEqualTo(first.getEmail());
+        assertThat(second.getTokenId()).isNotEqualTo(first.getTokenId());
+        verify(userRepository, times(1)).findByUuid(userId);
+    }
+
+    @Test
+    void loadUserById_WhenTtlElapsed_ShouldHitRepositoryAgain() {
+        // Given
+        when(userRepository.findByUuid(userId)).thenReturn(Optional.of(user()));
+        CustomUserDetailsService userDetailsService = new CustomUserDetailsService(userRepository, cache(true));
+        userDetailsService.loadUserById(userId, UUID.randomUUID());
+
+        // When
+        tickerNanos.addAndGet(Duration.ofSeconds(TTL_SECONDS + 1).toNanos());
+        userDetailsService.loadUserById(userId, UUID.randomUUID());
+
+        // Then
+        verify(userRepository, times(2)).findByUuid(userId);
+    }
+
+    private UserPrincipalCache cache(boolean enabled) {
+        return new UserPrincipalCache(new SimpleMeterRegistry(), enabled, 100, TTL_SECONDS, tickerNanos::get);
+    }
+
+    private static Function<UUID, CachedPrincipal> countingLoader(AtomicInteger loads) {
+        return id -> {
+            loads.incrementAndGet();
+            return new CachedPrincipal(id, "cached@example.com", "Cached", "User", List.of());
+        };
+    }
+
+    private UserEntity user() {
+        UserEntity user = UserEntity.builder()
+                .uuid(userId)
+                .email("db@example.com")
+                .firstName("Db")
+                .lastName("User")
+                .roles(new ArrayList<>())
+                .build();
+        user.getRoles().add(new RoleEntity(CoreMsRoles.USER_MS_USER, user));
+        return user;
+    }
+}
@@ -0,0 +1,91 @@
+package com.corems.userms.app.service;
+
+import com.corems.userms.app.repository.ActionTokenRepository;
+import com.corems.userms.app.repository.AuthorizationCodeRepository;
+import com.corems.userms.app.repository.LoginTokenRepository;
+import com.corems.userms.app.repository.NotificationOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExpiredTokenPurgeServiceTest {
+
+    @Mock
+    private ActionTokenRepository actionTokenRepository;
+
+    @Mock
+    private AuthorizationCodeRepository authorizationCodeRepository;
+
+    @Mock
+    private LoginTokenRepository loginTokenRepository;
+
+    @Mock
+    private NotificationOutboxRepository notificationOutboxRepository;
+
+    @Mock
+    private SchedulerLockService schedulerLockService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ExpiredTokenPurgeService purgeService;
+
+    @BeforeEach
+    void setUp() {
+        purgeService = new ExpiredTokenPurgeService(actionTokenRepository, authorizationCodeRepository,
+                loginTokenRepository, notificationOutboxRepository, schedulerLockService,
+                new TransactionTemplate(transactionManager), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(purgeService, "batchSize", 2);
+        ReflectionTestUtils.setField(purgeService, "maxBatchesPerTable", 10);
+        ReflectionTestUtils.setField(purgeService, "batchPause", Duration.ZERO);
+        ReflectionTestUtils.setField(purgeService, "lockLease", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(purgeService, "failedNotificationRetention", Duration.ofDays(1));
+        ReflectionTestUtils.setField(purgeService, "refreshExpirationMinutes", 1440L);
+    }
+
+    @Test
+    void purgeExpired_WhenLockHeld_ShouldPurgeInBatchesIncludingFailedNotifications() {
+        // Given
+        when(schedulerLockService.tryAcquire(anyString(), any())).thenReturn(true);
+        when(actionTokenRepository.deleteExpiredBatch(any(), eq(2))).thenReturn(2, 1);
+        when(notificationOutboxRepository.deleteFailedBatch(any(), eq(2))).thenReturn(1);
+
+        // When
+        Instant before = Instant.now();
+        purgeService.purgeExpired();
+
+        // Then
+        verify(actionTokenRepository, times(2)).deleteExpiredBatch(any(), eq(2));
+        verify(authorizationCodeRepository).deleteUsedOrExpiredBatch(any(), eq(2));
+        verify(loginTokenRepository).deleteCreatedBeforeBatch(any(), eq(2));
+        verify(notificationOutboxRepository).deleteFailedBatch(
+                argThat(cutoff -> !cutoff.isAfter(before.minus(Duration.ofDays(1)).plusSeconds(5))), eq(2));
+        verify(schedulerLockService).release(anyString());
+    }
+
+    @Test
+    void purgeExpired_WhenLockNotAcquired_ShouldSkip() {
+        // Given
+        when(schedulerLockService.tryAcquire(anyString(), any())).thenReturn(false);
+
+        // When
+        purgeService.purgeExpired();
+
+        // Then
+        verifyNoInteractions(actionTokenRepository, notificationOutboxRepository);
+        verify(schedulerLockService, never()).release(anyString());
+    }
+}
@@ -0,0 +1,51 @@
+package com.corems.userms.app.service;
+
+import com.corems.userms.app.model.AuthorizationCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryAuthorizationCodeStoreTest {
+
+    private InMemoryAuthorizationCodeStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryAuthorizationCodeStore(new SimpleMeterRegistry(), 600, 1000);
+    }
+
+    @Test
+    void consume_WhenCodeSaved_ShouldReturnItOnlyOnce() {
+        // Given
+        AuthorizationCode authCode = authorizationCode("code-1", Instant.now().plusSeconds(600));
+        store.save(authCode);
+
+        // When & Then
+        assertThat(store.consume("code-1")).contains(authCode);
+        assertThat(store.consume("code-1")).isEmpty();
+    }
+
+    @Test
+    void consume_WhenCodeExpired_ShouldReturnEmpty() {
+        // Given
+        store.save(authorizationCode("code-2", Instant.now().minusSeconds(1)));
+
+        // When & Then
+        assertThat(store.consume("code-2")).isEmpty();
+    }
+
+    @Test
+    void consume_WhenCodeUnknown_ShouldReturnEmpty() {
+        assertThat(store.consume("missing")).isEmpty();
+    }
+
+    private AuthorizationCode authorizationCode(String code, Instant expiresAt) {
+        return new AuthorizationCode(code, UUID.randomUUID(), "client", "http://localhost/callback",
+                "openid", null, null, null, expiresAt);
+    }
+}
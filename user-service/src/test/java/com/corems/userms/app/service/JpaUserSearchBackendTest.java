@@ -0,0 +1,94 @@
+package com.corems.userms.app.service;
+
+import com.corems.common.security.CoreMsRoles;
+import com.corems.userms.app.entity.RoleEntity;
+import com.corems.userms.app.entity.UserEntity;
+import com.corems.userms.app.model.enums.AuthProvider;
+import com.corems.userms.app.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class JpaUserSearchBackendTest {
+
+    @Autowired
+    private JpaUserSearchBackend searchBackend;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        if (userRepository.findByEmail("percent@example.com").isEmpty()) {
+            saveUser("percent@example.com", "Promo100%off");
+            saveUser("percentless@example.com", "Promo100xoff");
+            saveUser("underscore@example.com", "Snake_case");
+            saveUser("underscoreless@example.com", "SnakeXcase");
+            saveUser("backslash@example.com", "Back\\slash");
+            saveUser("backslashless@example.com", "Backslash");
+        }
+    }
+
+    @Test
+    void search_WhenTermContainsPercent_ShouldMatchItLiterally() {
+        // When
+        Page<UserEntity> page = searchBackend.search("100%", PageRequest.of(0, 10));
+
+        // Then
+        assertThat(page.getContent()).extracting(UserEntity::getEmail).containsExactly("percent@example.com");
+        assertThat(page.getTotalElements()).isEqualTo(1);
+    }
+
+    @Test
+    void search_WhenTermContainsUnderscore_ShouldMatchItLiterally() {
+        // When
+        Page<UserEntity> page = searchBackend.search("e_c", PageRequest.of(0, 10));
+
+        // Then
+        assertThat(page.getContent()).extracting(UserEntity::getEmail).containsExactly("underscore@example.com");
+        assertThat(page.getTotalElements()).isEqualTo(1);
+    }
+
+    @Test
+    void search_WhenTermContainsBackslash_ShouldMatchItLiterally() {
+        // When
+        Page<UserEntity> page = searchBackend.search("k\\s", PageRequest.of(0, 10));
+
+        // Then
+        assertThat(page.getContent()).extracting(UserEntity::getEmail).containsExactly("backslash@example.com");
+        assertThat(page.getTotalElements()).isEqualTo(1);
+    }
+
+    @Test
+    void search_WhenTermDiffersInCase_ShouldMatch() {
+        // When
+        Page<UserEntity> page = searchBackend.search("SNAKE_CASE", PageRequest.of(0, 10));
+
+        // Then
+        assertThat(page.getContent()).extracting(UserEntity::getEmail).containsExactly("underscore@example.com");
+    }
+
+    private void saveUser(String email, String firstName) {
+        UserEntity user = UserEntity.builder()
+                .email(email)
+                .firstName(firstName)
+                .lastName("Search")
+                .provider(AuthProvider.local.name())
+                .roles(new ArrayList<>())
+                .build();
+        user.getRoles().add(new RoleEntity(CoreMsRoles.USER_MS_USER, user));
+        userRepository.save(user);
+    }
+}
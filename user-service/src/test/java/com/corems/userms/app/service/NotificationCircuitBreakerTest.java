@@ -0,0 +1,176 @@
+package com.corems.userms.app.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.*;
+
+class NotificationCircuitBreakerTest {
+
+    private MutableClock clock;
+    private NotificationCircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        breaker = new NotificationCircuitBreaker(new SimpleMeterRegistry(), clock,
+                4, 4, 0.5, Duration.ofSeconds(30), 100,
+                Duration.ofMillis(500), Duration.ofMillis(100), Duration.ofSeconds(2), 2.0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        breaker.shutdown();
+    }
+
+    @Test
+    void call_WhenFailureRateExceedsThreshold_ShouldOpenAndRejectCalls() {
+        // Given
+        breaker.call(() -> "ok");
+        breaker.call(() -> "ok");
+        failCall();
+        failCall();
+
+        // When & Then
+        assertThat(breaker.getState()).isEqualTo(NotificationCircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> breaker.call(() -> "ok"))
+                .isInstanceOf(NotificationCircuitBreaker.OpenException.class);
+    }
+
+    @Test
+    void call_WhenOpenDurationElapsed_ShouldCloseAfterSuccessfulProbe() {
+        // Given
+        for (int i = 0; i < 4; i++) {
+            failCall();
+        }
+        assertThat(breaker.getState()).isEqualTo(NotificationCircuitBreaker.State.OPEN);
+
+        // When
+        clock.advance(Duration.ofSeconds(31));
+        String result = breaker.call(() -> "probe");
+
+        // Then
+        assertThat(result).isEqualTo("probe");
+        assertThat(breaker.getState()).isEqualTo(NotificationCircuitBreaker.State.CLOSED);
+        assertThat(breaker.getFailureRate()).isZero();
+    }
+
+    @Test
+    void call_WhenProbeFails_ShouldReopen() {
+        // Given
+        for (int i = 0; i < 4; i++) {
+            failCall();
+        }
+        clock.advance(Duration.ofSeconds(31));
+
+        // When
+        failCall();
+
+        // Then
+        assertThat(breaker.getState()).isEqualTo(NotificationCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void call_WhenDownstreamExceedsDeadline_ShouldInterruptAndFail() {
+        // When & Then
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> breaker.call(() -> {
+            interruptibleSleep(Duration.ofSeconds(5));
+            return "late";
+        }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("deadline");
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(2));
+        assertThat(Thread.currentThread().isInterrupted()).isFalse();
+    }
+
+    @Test
+    void call_WhenLateCallStillSucceeds_ShouldReturnResultAndHoldCallerUntilDone() {
+        // When
+        long startedAt = System.nanoTime();
+        String result = breaker.call(() -> {
+            // Ignores the interrupt, like a client blocked in non-interruptible I/O
+            sleep(Duration.ofMillis(800));
+            return "delivered";
+        });
+
+        // Then
+        assertThat(result).isEqualTo("delivered");
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isGreaterThanOrEqualTo(Duration.ofMillis(800));
+        assertThat(breaker.getFailureRate()).isEqualTo(1.0);
+        assertThat(Thread.currentThread().isInterrupted()).isFalse();
+    }
+
+    @Test
+    void call_WhenLatencyIsLow_ShouldShrinkDeadlineToMinimum() {
+        // When
+        for (int i = 0; i < 40; i++) {
+            breaker.call(() -> "fast");
+        }
+
+        // Then
+        assertThat(breaker.getDeadline()).isEqualTo(Duration.ofMillis(100));
+    }
+
+    private void failCall() {
+        assertThatThrownBy(() -> breaker.call(() -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+    }
+
+    // Keeps sleeping through interrupts
+    private static void sleep(Duration duration) {
+        long deadline = System.nanoTime() + duration.toNanos();
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            try {
+                Thread.sleep(Duration.ofNanos(remaining));
+            } catch (InterruptedException ignored) {
+                // keep going
+            }
+        }
+    }
+
+    private static void interruptibleSleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException("I/O aborted", e);
+        }
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
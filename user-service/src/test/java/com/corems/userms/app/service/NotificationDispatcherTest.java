@@ -0,0 +1,141 @@
+package com.corems.userms.app.service;
+
+import com.corems.communicationms.api.model.EmailNotificationRequest;
+import com.corems.communicationms.client.NotificationsApi;
+import com.corems.userms.app.entity.NotificationOutboxEntity;
+import com.corems.userms.app.model.enums.NotificationChannel;
+import com.corems.userms.app.model.enums.NotificationStatus;
+import com.corems.userms.app.repository.NotificationOutboxRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationDispatcherTest {
+
+    @Mock
+    private NotificationOutboxRepository notificationOutboxRepository;
+
+    @Mock
+    private NotificationsApi notificationsApi;
+
+    @Mock
+    private SchedulerLockService schedulerLockService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private NotificationDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        NotificationExecutor notificationExecutor = new NotificationExecutor(meterRegistry, 2, 2, 1, 10);
+        NotificationCircuitBreaker circuitBreaker = new NotificationCircuitBreaker(meterRegistry, Clock.systemUTC(),
+                20, 10, 0.5, Duration.ofSeconds(30), 200,
+                Duration.ofSeconds(5), Duration.ofSeconds(1), Duration.ofSeconds(10), 2.0);
+        dispatcher = new NotificationDispatcher(notificationOutboxRepository, notificationsApi, notificationExecutor,
+                circuitBreaker, schedulerLockService, transactionManager, objectMapper, meterRegistry);
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 10);
+        ReflectionTestUtils.setField(dispatcher, "maxBatchesPerRun", 5);
+        ReflectionTestUtils.setField(dispatcher, "maxAttempts", 3);
+        ReflectionTestUtils.setField(dispatcher, "initialBackoff", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(dispatcher, "maxBackoff", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(dispatcher, "maxRunTime", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(dispatcher, "lockLease", Duration.ofMinutes(1));
+        when(schedulerLockService.tryAcquire(anyString(), any())).thenReturn(true);
+    }
+
+    @Test
+    void dispatch_WhenDeliveryFails_ShouldDeleteDeliveredAndRescheduleFailed() throws Exception {
+        // Given
+        NotificationOutboxEntity ok = entry(1L, "ok@example.com", 0);
+        NotificationOutboxEntity broken = entry(2L, "broken@example.com", 0);
+        when(notificationOutboxRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                eq(NotificationStatus.PENDING), any(), any()))
+                .thenReturn(List.of(ok, broken));
+        when(notificationsApi.sendEmailNotification(any())).thenAnswer(invocation -> {
+            EmailNotificationRequest request = invocation.getArgument(0);
+            if ("broken@example.com".equals(request.getRecipient())) {
+                throw new IllegalStateException("communication-ms unavailable");
+            }
+            return null;
+        });
+
+        // When
+        Instant before = Instant.now();
+        dispatcher.dispatch();
+
+        // Then
+        verify(notificationOutboxRepository).deleteAllByIdInBatch(List.of(1L));
+        assertThat(broken.getAttempts()).isEqualTo(1);
+        assertThat(broken.getStatus()).isEqualTo(NotificationStatus.PENDING);
+        assertThat(broken.getNextAttemptAt()).isAfterOrEqualTo(before.plusSeconds(5));
+        assertThat(broken.getLastError()).isEqualTo("communication-ms unavailable");
+        verify(schedulerLockService).release(anyString());
+    }
+
+    @Test
+    void dispatch_WhenAttemptsExhausted_ShouldMarkFailed() throws Exception {
+        // Given
+        NotificationOutboxEntity broken = entry(3L, "broken@example.com", 2);
+        when(notificationOutboxRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                eq(NotificationStatus.PENDING), any(), any()))
+                .thenReturn(List.of(broken));
+        when(notificationsApi.sendEmailNotification(any())).thenThrow(new IllegalStateException("timeout"));
+
+        // When
+        dispatcher.dispatch();
+
+        // Then
+        verify(notificationOutboxRepository).saveAll(argThat(entries -> entries.iterator().next() == broken));
+        assertThat(broken.getStatus()).isEqualTo(NotificationStatus.FAILED);
+        assertThat(broken.getAttempts()).isEqualTo(3);
+    }
+
+    @Test
+    void dispatch_WhenRunTimeUsedUp_ShouldNotStartAnotherBatch() {
+        // Given
+        ReflectionTestUtils.setField(dispatcher, "maxRunTime", Duration.ZERO);
+
+        // When
+        dispatcher.dispatch();
+
+        // Then
+        verify(notificationOutboxRepository, never()).findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(any(), any(), any());
+        verify(schedulerLockService).release(anyString());
+    }
+
+    private NotificationOutboxEntity entry(Long id, String recipient, int attempts) throws Exception {
+        EmailNotificationRequest request = new EmailNotificationRequest();
+        request.setRecipient(recipient);
+        request.setSubject("Subject");
+        request.setBody("Body");
+
+        NotificationOutboxEntity entry = new NotificationOutboxEntity();
+        entry.setId(id);
+        entry.setChannel(NotificationChannel.EMAIL);
+        entry.setPayload(objectMapper.writeValueAsString(request));
+        entry.setAttempts(attempts);
+        entry.setNextAttemptAt(Instant.now());
+        entry.setCreatedAt(Instant.now());
+        return entry;
+    }
+}
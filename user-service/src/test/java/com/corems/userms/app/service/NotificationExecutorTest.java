@@ -0,0 +1,77 @@
+package com.corems.userms.app.service;
+
+import com.corems.userms.app.model.enums.NotificationChannel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class NotificationExecutorTest {
+
+    private NotificationExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new NotificationExecutor(new SimpleMeterRegistry(), 4, 4, 1, 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void submit_WhenQueueIsFull_ShouldRejectAndRecoverAfterDrain() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        Runnable blocked = () -> await(release);
+        CompletableFuture<Void> first = executor.submit(NotificationChannel.EMAIL, blocked);
+        executor.submit(NotificationChannel.EMAIL, blocked);
+        executor.submit(NotificationChannel.SMS, blocked);
+
+        // When & Then
+        assertThatThrownBy(() -> executor.submit(NotificationChannel.EMAIL, () -> {}))
+                .isInstanceOf(RejectedExecutionException.class);
+
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        assertThatCode(() -> executor.submit(NotificationChannel.EMAIL, () -> {}).get(5, TimeUnit.SECONDS))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void submit_WhenChannelBulkheadIsFull_ShouldNotBlockOtherChannel() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> slowSms = executor.submit(NotificationChannel.SMS, () -> await(release));
+        AtomicInteger smsRuns = new AtomicInteger();
+        CompletableFuture<Void> queuedSms = executor.submit(NotificationChannel.SMS, smsRuns::incrementAndGet);
+
+        // When
+        executor.submit(NotificationChannel.EMAIL, () -> {}).get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(queuedSms).isNotDone();
+        assertThat(smsRuns).hasValue(0);
+
+        release.countDown();
+        CompletableFuture.allOf(slowSms, queuedSms).get(5, TimeUnit.SECONDS);
+        assertThat(smsRuns).hasValue(1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
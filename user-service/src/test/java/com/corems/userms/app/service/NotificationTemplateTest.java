@@ -0,0 +1,59 @@
+package com.corems.userms.app.service;
+
+import com.corems.userms.app.model.enums.UserActionType;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import static org.assertj.core.api.Assertions.*;
+
+class NotificationTemplateTest {
+
+    @Test
+    void render_WhenPlaceholdersRepeatAndReorder_ShouldSubstituteByName() {
+        // Given
+        NotificationTemplate template = NotificationTemplate.compile("{{b}}-{{a}}-{{ b }}!", "a", "b");
+
+        // When
+        String rendered = template.render("first", "second");
+
+        // Then
+        assertThat(rendered).isEqualTo("second-first-second!");
+    }
+
+    @Test
+    void render_WhenValueCountDiffers_ShouldFail() {
+        NotificationTemplate template = NotificationTemplate.compile("Hi {{name}}", "name");
+
+        assertThatThrownBy(() -> template.render("Ann", "Bob"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Expected 1 values");
+    }
+
+    @Test
+    void compile_WhenPlaceholderIsUnknown_ShouldFail() {
+        assertThatThrownBy(() -> NotificationTemplate.compile("Hi {{name}}", "firstName"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("name");
+    }
+
+    @Test
+    void compile_WhenLoadedForActionType_ShouldRenderFallbackEmail() {
+        // Given
+        NotificationTemplates templates = new NotificationTemplates(new DefaultResourceLoader(),
+                "classpath:notification-templates/");
+        NotificationTemplate template = templates.compile(UserActionType.EMAIL_VERIFICATION,
+                "firstName", "baseUrl", "email", "token");
+
+        // When
+        String body = template.render("John", "http://localhost:8080", "john@example.com", "abc");
+
+        // Then
+        assertThat(body).isEqualTo("Dear John,\n\n" +
+                "Please verify your email address by clicking the link below:\n\n" +
+                "http://localhost:8080/verify-email?email=john@example.com&token=abc\n\n" +
+                "This link will expire in 24 hours.\n\n" +
+                "If you didn't create an account with us, please ignore this email.\n\n" +
+                "Best regards,\n" +
+                "The CoreMS Team");
+    }
+}
@@ -0,0 +1,141 @@
+package com.corems.userms.app.service;
+
+import com.corems.common.exception.ServiceException;
+import com.corems.userms.api.model.OAuth2TokenResponse;
+import com.corems.userms.app.entity.UserEntity;
+import com.corems.userms.app.repository.LoginTokenRepository;
+import com.corems.userms.app.repository.UserRepository;
+import com.corems.userms.app.security.TokenClaimsVerifier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OAuth2ServiceTest {
+
+    private static final String EMAIL = "user@example.com";
+    private static final String PASSWORD = "TestPassword123!";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private LoginTokenRepository loginTokenRepository;
+
+    @Mock
+    private AuthorizationCodeStore authorizationCodeStore;
+
+    @Mock
+    private TokenService tokenService;
+
+    @Mock
+    private TokenClaimsVerifier tokenClaimsVerifier;
+
+    private BCryptPasswordEncoder bcryptEncoder;
+
+    private PasswordEncoder passwordEncoder;
+
+    private OAuth2Service oauth2Service;
+
+    @BeforeEach
+    void setUp() {
+        // Same shape as the production encoder, with cheap parameters
+        bcryptEncoder = new BCryptPasswordEncoder(4);
+        DelegatingPasswordEncoder delegatingEncoder = new DelegatingPasswordEncoder("pbkdf2", Map.of(
+                "bcrypt", bcryptEncoder,
+                "pbkdf2", new Pbkdf2PasswordEncoder("", 16, 1000,
+                        Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256)));
+        delegatingEncoder.setDefaultPasswordEncoderForMatches(bcryptEncoder);
+        passwordEncoder = delegatingEncoder;
+
+        oauth2Service = new OAuth2Service(userRepository, loginTokenRepository, authorizationCodeStore,
+                passwordEncoder, tokenService, tokenClaimsVerifier);
+    }
+
+    @Test
+    void handlePasswordGrant_WhenHashUsesOlderAlgorithm_ShouldReEncodeAndSave() {
+        // Given
+        UserEntity user = user("{bcrypt}" + bcryptEncoder.encode(PASSWORD));
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        when(tokenService.generateTokenResponse(user, "openid", null)).thenReturn(new OAuth2TokenResponse());
+
+        // When
+        oauth2Service.handlePasswordGrant(EMAIL, PASSWORD, "openid");
+
+        // Then
+        ArgumentCaptor<UserEntity> saved = ArgumentCaptor.forClass(UserEntity.class);
+        verify(userRepository).save(saved.capture());
+        assertThat(saved.getValue().getPassword()).startsWith("{pbkdf2}");
+        assertThat(passwordEncoder.matches(PASSWORD, saved.getValue().getPassword())).isTrue();
+    }
+
+    @Test
+    void handlePasswordGrant_WhenHashHasNoAlgorithmPrefix_ShouldReEncodeAndSave() {
+        // Given
+        UserEntity user = user(bcryptEncoder.encode(PASSWORD));
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        when(tokenService.generateTokenResponse(user, "openid", null)).thenReturn(new OAuth2TokenResponse());
+
+        // When
+        oauth2Service.handlePasswordGrant(EMAIL, PASSWORD, "openid");
+
+        // Then
+        verify(userRepository).save(user);
+        assertThat(user.getPassword()).startsWith("{pbkdf2}");
+        assertThat(passwordEncoder.matches(PASSWORD, user.getPassword())).isTrue();
+    }
+
+    @Test
+    void handlePasswordGrant_WhenHashIsCurrent_ShouldNotSave() {
+        // Given
+        String currentHash = passwordEncoder.encode(PASSWORD);
+        UserEntity user = user(currentHash);
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        when(tokenService.generateTokenResponse(user, "openid", null)).thenReturn(new OAuth2TokenResponse());
+
+        // When
+        oauth2Service.handlePasswordGrant(EMAIL, PASSWORD, "openid");
+
+        // Then
+        assertThat(user.getPassword()).isEqualTo(currentHash);
+        verify(userRepository, never()).save(any());
+    }
+
+    @Test
+    void handlePasswordGrant_WhenPasswordDoesNotMatch_ShouldRejectWithoutSaving() {
+        // Given
+        String legacyHash = bcryptEncoder.encode(PASSWORD);
+        UserEntity user = user(legacyHash);
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+
+        // When / Then
+        assertThatThrownBy(() -> oauth2Service.handlePasswordGrant(EMAIL, "WrongPassword1!", "openid"))
+                .isInstanceOf(ServiceException.class);
+        assertThat(user.getPassword()).isEqualTo(legacyHash);
+        verify(userRepository, never()).save(any());
+        verifyNoInteractions(tokenService);
+    }
+
+    private static UserEntity user(String passwordHash) {
+        return UserEntity.builder()
+                .email(EMAIL)
+                .firstName("Test")
+                .lastName("User")
+                .password(passwordHash)
+                .build();
+    }
+}
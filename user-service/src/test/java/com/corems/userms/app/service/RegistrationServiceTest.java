@@ -0,0 +1,140 @@
+package com.corems.userms.app.service;
+
+import com.corems.common.exception.ServiceException;
+import com.corems.userms.api.model.SignUpRequest;
+import com.corems.userms.api.model.SuccessfulResponse;
+import com.corems.userms.app.entity.UserEntity;
+import com.corems.userms.app.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RegistrationServiceTest {
+
+    private static final String EMAIL = "new.user@example.com";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private UserActionTokenService userActionTokenService;
+
+    @Mock
+    private RoleService roleService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private RegistrationService registrationService;
+
+    private ExecutorService executor;
+
+    // The first password hash blocks until released, keeping the first sign-up in flight
+    private final CountDownLatch firstHashStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseFirstHash = new CountDownLatch(1);
+    private final AtomicBoolean firstHash = new AtomicBoolean(true);
+
+    @BeforeEach
+    void setUp() {
+        registrationService = new RegistrationService(userRepository, passwordEncoder, userActionTokenService,
+                roleService, new TransactionTemplate(transactionManager));
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+
+        when(userRepository.findExistingUserKeys(eq(EMAIL), any())).thenReturn(List.of());
+        when(passwordEncoder.encode(anyString())).thenAnswer(invocation -> {
+            if (firstHash.getAndSet(false)) {
+                firstHashStarted.countDown();
+                releaseFirstHash.await(5, TimeUnit.SECONDS);
+            }
+            return "hashed";
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseFirstHash.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void signUp_WhenIdenticalRequestInFlight_ShouldShareFirstResult() throws Exception {
+        // Given
+        when(userRepository.saveAndFlush(any(UserEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        Future<SuccessfulResponse> first = executor.submit(() -> registrationService.signUp(signUpRequest("Test")));
+        assertThat(firstHashStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        Future<SuccessfulResponse> duplicate = executor.submit(() -> registrationService.signUp(signUpRequest("Test")));
+        Thread.sleep(200);
+        releaseFirstHash.countDown();
+
+        // Then
+        SuccessfulResponse firstResponse = first.get(5, TimeUnit.SECONDS);
+        assertThat(duplicate.get(5, TimeUnit.SECONDS)).isSameAs(firstResponse);
+        verify(userRepository, times(1)).findExistingUserKeys(eq(EMAIL), any());
+        verify(passwordEncoder, times(1)).encode(anyString());
+        verify(userRepository, times(1)).saveAndFlush(any(UserEntity.class));
+    }
+
+    @Test
+    void signUp_WhenDifferentRequestForSameEmailInFlight_ShouldRegisterAndFailWithUserExists() throws Exception {
+        // Given
+        when(userRepository.saveAndFlush(any(UserEntity.class))).thenAnswer(invocation -> {
+            UserEntity user = invocation.getArgument(0);
+            if ("Other".equals(user.getFirstName())) {
+                // The first sign-up holds the unique email
+                throw new DataIntegrityViolationException("uq_app_user_email");
+            }
+            return user;
+        });
+        Future<SuccessfulResponse> first = executor.submit(() -> registrationService.signUp(signUpRequest("Test")));
+        assertThat(firstHashStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When / Then
+        assertThatThrownBy(() -> registrationService.signUp(signUpRequest("Other")))
+                .isInstanceOf(ServiceException.class)
+                .satisfies(throwable -> {
+                    ServiceException exception = (ServiceException) throwable;
+                    assertThat(exception.getErrors()).isNotEmpty();
+                    assertThat(exception.getErrors().get(0).getDetails()).contains("User already exists");
+                });
+
+        releaseFirstHash.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS).getResult()).isTrue();
+        verify(userRepository, times(2)).findExistingUserKeys(eq(EMAIL), any());
+        verify(passwordEncoder, times(2)).encode(anyString());
+    }
+
+    private static SignUpRequest signUpRequest(String firstName) {
+        SignUpRequest request = new SignUpRequest();
+        request.setEmail(EMAIL);
+        request.setPassword("TestPassword123!");
+        request.setConfirmPassword("TestPassword123!");
+        request.setFirstName(firstName);
+        request.setLastName("User");
+        return request;
+    }
+}
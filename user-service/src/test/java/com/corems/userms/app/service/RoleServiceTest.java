@@ -4,6 +4,7 @@ import com.corems.common.security.CoreMsRoles;
 import com.corems.userms.app.config.UserServiceProperties;
 import com.corems.userms.app.entity.RoleEntity;
 import com.corems.userms.app.entity.UserEntity;
+import com.corems.userms.app.security.UserPrincipalCache;
 import com.corems.common.exception.ServiceException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -25,6 +26,9 @@ class RoleServiceTest {
     @Mock
     private UserServiceProperties userServiceProperties;
 
+    @Mock
+    private UserPrincipalCache principalCache;
+
     @InjectMocks
     private RoleService roleService;
 
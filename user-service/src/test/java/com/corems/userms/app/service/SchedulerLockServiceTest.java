@@ -0,0 +1,107 @@
+package com.corems.userms.app.service;
+
+import com.corems.userms.app.repository.SchedulerLockRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class SchedulerLockServiceTest {
+
+    private static final Duration LEASE = Duration.ofMinutes(5);
+
+    @Autowired
+    private SchedulerLockService schedulerLockService;
+
+    @Autowired
+    private SchedulerLockRepository schedulerLockRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    // Second replica with its own owner id, sharing the same table
+    private SchedulerLockService otherInstance;
+
+    private String lockName;
+
+    @BeforeEach
+    void setUp() {
+        otherInstance = new SchedulerLockService(schedulerLockRepository);
+        lockName = "test-lock-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @Test
+    void tryAcquire_WhenLockMissing_ShouldCreateAndAcquire() {
+        // When
+        boolean acquired = schedulerLockService.tryAcquire(lockName, LEASE);
+
+        // Then
+        assertThat(acquired).isTrue();
+        assertThat(schedulerLockRepository.existsById(lockName)).isTrue();
+    }
+
+    @Test
+    void tryAcquire_WhenHeldByOtherInstance_ShouldReturnFalseWithoutError() {
+        // Given
+        assertThat(acquireAsOther(LEASE)).isTrue();
+
+        // When
+        boolean acquired = schedulerLockService.tryAcquire(lockName, LEASE);
+
+        // Then
+        assertThat(acquired).isFalse();
+    }
+
+    @Test
+    void tryAcquire_WhenHeldBySameInstance_ShouldExtendLease() {
+        // Given
+        assertThat(schedulerLockService.tryAcquire(lockName, LEASE)).isTrue();
+
+        // When
+        boolean reacquired = schedulerLockService.tryAcquire(lockName, LEASE);
+
+        // Then
+        assertThat(reacquired).isTrue();
+        assertThat(acquireAsOther(LEASE)).isFalse();
+    }
+
+    @Test
+    void tryAcquire_WhenLeaseExpired_ShouldTakeOver() {
+        // Given
+        assertThat(acquireAsOther(Duration.ZERO)).isTrue();
+
+        // When
+        boolean acquired = schedulerLockService.tryAcquire(lockName, LEASE);
+
+        // Then
+        assertThat(acquired).isTrue();
+        assertThat(acquireAsOther(LEASE)).isFalse();
+    }
+
+    @Test
+    void release_WhenHeld_ShouldLetOtherInstanceAcquire() {
+        // Given
+        assertThat(schedulerLockService.tryAcquire(lockName, LEASE)).isTrue();
+
+        // When
+        schedulerLockService.release(lockName);
+
+        // Then
+        assertThat(acquireAsOther(LEASE)).isTrue();
+    }
+
+    private boolean acquireAsOther(Duration lease) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> otherInstance.tryAcquire(lockName, lease)));
+    }
+}
@@ -0,0 +1,101 @@
+package com.corems.userms.app.service;
+
+import com.corems.userms.api.model.UserImportError;
+import com.corems.userms.api.model.UserImportResponse;
+import com.corems.userms.app.model.enums.UserExportFormat;
+import com.corems.userms.app.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserImportServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private RoleService roleService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private UserImportService userImportService;
+
+    @BeforeEach
+    void setUp() {
+        userImportService = new UserImportService(userRepository, roleService, new ObjectMapper(), transactionManager);
+        ReflectionTestUtils.setField(userImportService, "entityManager", entityManager);
+        ReflectionTestUtils.setField(userImportService, "chunkSize", 500);
+    }
+
+    @Test
+    void importUsers_WhenCsvHasInvalidRows_ShouldImportValidRowsAndReportErrors() {
+        // Given
+        String csv = """
+                email,firstName,lastName,phoneNumber,roles
+                new@example.com,New,User,+100,USER_MS_USER
+                existing@example.com,Existing,User,,
+                new@example.com,Duplicate,User,,
+                not-an-email,Bad,Email,,
+                "quoted@example.com","Smith, Jr.",User,,
+                """;
+        when(roleService.areValidRoles(any())).thenReturn(true);
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(List.of("existing@example.com"));
+        when(userRepository.findExistingPhoneNumbers(anyCollection())).thenReturn(List.of());
+
+        // When
+        UserImportResponse response = userImportService.importUsers(UserExportFormat.csv,
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        // Then
+        assertThat(response.getTotal()).isEqualTo(5);
+        assertThat(response.getImported()).isEqualTo(2);
+        assertThat(response.getFailed()).isEqualTo(3);
+        assertThat(response.getErrors())
+                .extracting(UserImportError::getLine, UserImportError::getMessage)
+                .containsExactlyInAnyOrder(
+                        tuple(3L, "User with this email already exists"),
+                        tuple(4L, "Duplicate email in import"),
+                        tuple(5L, "Invalid email"));
+        verify(userRepository).saveAll(argThat(users -> users.spliterator().getExactSizeIfKnown() == 2));
+    }
+
+    @Test
+    void importUsers_WhenNdjsonRowMalformed_ShouldReportLine() {
+        // Given
+        String ndjson = """
+                {"email":"a@example.com","firstName":"A","lastName":"User"}
+                {not json}
+                """;
+        when(roleService.areValidRoles(any())).thenReturn(true);
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(List.of());
+
+        // When
+        UserImportResponse response = userImportService.importUsers(UserExportFormat.ndjson,
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+
+        // Then
+        assertThat(response.getImported()).isEqualTo(1);
+        assertThat(response.getErrors())
+                .extracting(UserImportError::getLine, UserImportError::getMessage)
+                .containsExactly(tuple(2L, "Malformed row"));
+    }
+}
@@ -4,7 +4,10 @@ import com.corems.common.security.CoreMsRoles;
 import com.corems.userms.app.entity.RoleEntity;
 import com.corems.userms.app.entity.UserEntity;
 import com.corems.common.exception.ServiceException;
+import com.corems.userms.app.model.ExistingUserKeys;
+import com.corems.userms.app.model.Versioned;
 import com.corems.userms.app.repository.UserRepository;
+import com.corems.userms.app.security.UserPrincipalCache;
 import com.corems.userms.api.model.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.time.Instant;
@@ -33,6 +37,12 @@ class UserServiceTest {
     @Mock
     private RoleService roleService;
 
+    @Mock
+    private UserPrincipalCache principalCache;
+
+    @Mock
+    private UserSearchBackend userSearchBackend;
+
     @InjectMocks
     private UserService userService;
 
@@ -75,6 +85,22 @@ class UserServiceTest {
         assertThat(result.getLastName()).isEqualTo("Doe");
     }
 
+    @Test
+    void getVersionedUserById_WhenUserUpdated_ShouldChangeEtag() {
+        // Given
+        when(userRepository.findByUuid(testUserId)).thenReturn(Optional.of(testUser));
+        Versioned<UserInfo> before = userService.getVersionedUserById(testUserId);
+
+        // When
+        testUser.setUpdatedAt(testUser.getUpdatedAt().plusSeconds(1));
+        Versioned<UserInfo> after = userService.getVersionedUserById(testUserId);
+
+        // Then
+        assertThat(before.etag()).startsWith("\"").endsWith("\"");
+        assertThat(after.etag()).isNotEqualTo(before.etag());
+        assertThat(userService.getVersionedUserById(testUserId).etag()).isEqualTo(after.etag());
+    }
+
     @Test
     void getUserById_WhenUserNotFound_ShouldThrowException() {
         // Given
@@ -100,16 +126,52 @@ class UserServiceTest {
                 .phoneNumber("+9876543210")
                 .roles(List.of("USER_MS_USER"));
 
-        when(userRepository.findByEmail(request.getEmail())).thenReturn(Optional.empty());
-        when(userRepository.save(any(UserEntity.class))).thenReturn(testUser);
+        when(userRepository.findExistingUserKeys(request.getEmail(), request.getPhoneNumber())).thenReturn(List.of());
+        when(userRepository.saveAndFlush(any(UserEntity.class))).thenReturn(testUser);
 
         // When
         SuccessfulResponse result = userService.createUser(request);
 
         // Then
         assertThat(result.getResult()).isTrue();
-        verify(userRepository).save(any(UserEntity.class));
+        verify(userRepository).saveAndFlush(any(UserEntity.class));
         verify(roleService).assignRoles(any(UserEntity.class), eq(request.getRoles()));
+        verify(userRepository, never()).findByEmail(anyString());
+        verify(userRepository, never()).findByPhoneNumber(anyString());
+    }
+
+    @Test
+    void createUser_WhenPhoneNumberTaken_ShouldThrowException() {
+        // Given
+        CreateUserRequest request = new CreateUserRequest()
+                .email("new@example.com")
+                .phoneNumber("+9876543210");
+        when(userRepository.findExistingUserKeys(request.getEmail(), request.getPhoneNumber()))
+                .thenReturn(List.of(new ExistingUserKeys("other@example.com", "+9876543210")));
+
+        // When & Then
+        assertThatThrownBy(() -> userService.createUser(request))
+                .isInstanceOf(ServiceException.class)
+                .satisfies(throwable -> assertThat(((ServiceException) throwable).getErrors().get(0).getDetails())
+                        .contains("phone number already exists"));
+        verify(userRepository, never()).saveAndFlush(any(UserEntity.class));
+    }
+
+    @Test
+    void createUser_WhenConcurrentInsertWins_ShouldThrowUserExists() {
+        // Given
+        CreateUserRequest request = new CreateUserRequest()
+                .email("new@example.com")
+                .roles(List.of("USER_MS_USER"));
+        when(userRepository.findExistingUserKeys(request.getEmail(), null)).thenReturn(List.of());
+        when(userRepository.saveAndFlush(any(UserEntity.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate key value violates unique constraint"));
+
+        // When & Then
+        assertThatThrownBy(() -> userService.createUser(request))
+                .isInstanceOf(ServiceException.class)
+                .satisfies(throwable -> assertThat(((ServiceException) throwable).getErrors().get(0).getDetails())
+                        .contains("already exists"));
     }
 
     @Test
@@ -123,6 +185,7 @@ class UserServiceTest {
         // Then
         assertThat(result.getResult()).isTrue();
         verify(userRepository).delete(testUser);
+        verify(principalCache).invalidate(testUserId);
     }
 
     @Test
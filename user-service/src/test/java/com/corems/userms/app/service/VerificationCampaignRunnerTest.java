@@ -0,0 +1,133 @@
+package com.corems.userms.app.service;
+
+import com.corems.userms.app.entity.VerificationCampaignEntity;
+import com.corems.userms.app.model.VerificationCandidate;
+import com.corems.userms.app.model.enums.NotificationStatus;
+import com.corems.userms.app.model.enums.VerificationCampaignStatus;
+import com.corems.userms.app.repository.NotificationOutboxRepository;
+import com.corems.userms.app.repository.UserRepository;
+import com.corems.userms.app.repository.VerificationCampaignRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VerificationCampaignRunnerTest {
+
+    @Mock
+    private VerificationCampaignRepository verificationCampaignRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private NotificationOutboxRepository notificationOutboxRepository;
+
+    @Mock
+    private UserActionTokenService userActionTokenService;
+
+    @Mock
+    private SchedulerLockService schedulerLockService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private VerificationCampaignRunner runner;
+
+    private VerificationCampaignEntity campaign;
+
+    @BeforeEach
+    void setUp() {
+        runner = new VerificationCampaignRunner(verificationCampaignRepository, userRepository, notificationOutboxRepository,
+                userActionTokenService, schedulerLockService, new TransactionTemplate(transactionManager),
+                new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(runner, "chunkSize", 2);
+        ReflectionTestUtils.setField(runner, "maxOutboxBacklog", 100L);
+        ReflectionTestUtils.setField(runner, "maxRunTime", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(runner, "lockLease", Duration.ofMinutes(1));
+
+        campaign = new VerificationCampaignEntity();
+        campaign.setId(1L);
+        campaign.setSendEmail(true);
+        campaign.setSendSms(true);
+        campaign.setRatePerSecond(1000);
+
+        when(schedulerLockService.tryAcquire(anyString(), any())).thenReturn(true);
+        when(verificationCampaignRepository.findFirstByStatusOrderByIdAsc(VerificationCampaignStatus.RUNNING))
+                .thenReturn(Optional.of(campaign));
+    }
+
+    @Test
+    void run_WhenCandidatesExhausted_ShouldCheckpointEachChunkAndComplete() {
+        // Given
+        VerificationCandidate unverifiedEmail = candidate(10L, false, null, null);
+        VerificationCandidate unverifiedPhone = candidate(12L, true, "+15550001", false);
+        when(verificationCampaignRepository.findById(1L)).thenReturn(Optional.of(campaign));
+        when(userRepository.findVerificationCandidates(eq(0L), any())).thenReturn(List.of(unverifiedEmail, unverifiedPhone));
+        when(userRepository.findVerificationCandidates(eq(12L), any())).thenReturn(List.of());
+        when(userActionTokenService.sendEmailVerifications(List.of(unverifiedEmail))).thenReturn(1);
+        when(userActionTokenService.sendSmsVerifications(List.of(unverifiedPhone))).thenReturn(1);
+
+        // When
+        runner.run();
+
+        // Then
+        assertThat(campaign.getLastUserId()).isEqualTo(12L);
+        assertThat(campaign.getProcessed()).isEqualTo(2);
+        assertThat(campaign.getEmailsQueued()).isEqualTo(1);
+        assertThat(campaign.getSmsQueued()).isEqualTo(1);
+        assertThat(campaign.getStatus()).isEqualTo(VerificationCampaignStatus.COMPLETED);
+        assertThat(campaign.getCompletedAt()).isNotNull();
+        verify(schedulerLockService).release(anyString());
+    }
+
+    @Test
+    void run_WhenChunkFails_ShouldKeepCheckpointAndRecordError() {
+        // Given
+        campaign.setLastUserId(5L);
+        when(verificationCampaignRepository.findById(1L)).thenReturn(Optional.of(campaign));
+        when(userRepository.findVerificationCandidates(eq(5L), any())).thenReturn(List.of(candidate(7L, false, null, null)));
+        when(userActionTokenService.sendEmailVerifications(any())).thenThrow(new IllegalStateException("outbox unavailable"));
+
+        // When
+        runner.run();
+
+        // Then
+        assertThat(campaign.getLastUserId()).isEqualTo(5L);
+        assertThat(campaign.getStatus()).isEqualTo(VerificationCampaignStatus.RUNNING);
+        assertThat(campaign.getLastError()).isEqualTo("outbox unavailable");
+    }
+
+    @Test
+    void run_WhenOutboxBacklogged_ShouldPause() {
+        // Given
+        when(notificationOutboxRepository.countByStatus(NotificationStatus.PENDING)).thenReturn(500L);
+
+        // When
+        runner.run();
+
+        // Then
+        verifyNoInteractions(userRepository, userActionTokenService);
+        assertThat(campaign.getStatus()).isEqualTo(VerificationCampaignStatus.RUNNING);
+    }
+
+    private static VerificationCandidate candidate(Long id, boolean emailVerified, String phoneNumber, Boolean phoneVerified) {
+        return new VerificationCandidate(id, UUID.randomUUID(), "user" + id + "@example.com", "User",
+                phoneNumber, emailVerified, phoneVerified);
+    }
+}